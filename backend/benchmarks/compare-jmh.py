@@ -0,0 +1,60 @@
+#!/usr/bin/env python3
+import argparse
+import json
+import os
+import sys
+
+LOWER_IS_BETTER = {"avgt", "sample", "ss"}
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        results = json.load(f)
+    scores = {}
+    for r in results:
+        params = ",".join(f"{k}={v}" for k, v in sorted((r.get("params") or {}).items()))
+        key = r["benchmark"] + (f"[{params}]" if params else "")
+        metric = r["primaryMetric"]
+        scores[key] = (r["mode"], metric["score"], metric["scoreUnit"])
+    return scores
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Fail when JMH scores regress against a baseline run.")
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=0.20,
+                        help="allowed slowdown as a fraction of the baseline score (default 0.20)")
+    args = parser.parse_args()
+
+    if not os.path.exists(args.baseline):
+        print(f"No baseline at {args.baseline}, skipping comparison")
+        return 0
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+    regressions = []
+
+    for key, (mode, score, unit) in sorted(current.items()):
+        if key not in baseline:
+            print(f"NEW   {key}: {score:.3f} {unit}")
+            continue
+        base_mode, base_score, base_unit = baseline[key]
+        if base_mode != mode or base_unit != unit or base_score <= 0 or score <= 0:
+            print(f"SKIP  {key}: mode/unit changed or empty score")
+            continue
+        slowdown = score / base_score if mode in LOWER_IS_BETTER else base_score / score
+        status = "OK"
+        if slowdown > 1 + args.threshold:
+            status = "SLOW"
+            regressions.append(key)
+        print(f"{status:<5} {key}: {base_score:.3f} -> {score:.3f} {unit} (x{slowdown:.2f})")
+
+    if regressions:
+        print(f"{len(regressions)} benchmark(s) regressed by more than {args.threshold:.0%}", file=sys.stderr)
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,56 @@
+package com.course.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private UserDetails user;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("benchmark-secret-benchmark-secret-benchmark-secret");
+        jwtService = new JwtService(props);
+
+        user = User.withUsername("student@school.local")
+                .password("{noop}password")
+                .roles("STUDENT")
+                .build();
+        accessToken = jwtService.generateAccessToken(user);
+    }
+
+    
+    @Benchmark
+    public void parseAndValidate(Blackhole bh) {
+        String username = jwtService.extractUsername(accessToken);
+        bh.consume(username);
+        bh.consume(jwtService.isTokenValid(accessToken, user));
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+}
@@ -0,0 +1,112 @@
+package com.course.service;
+
+import com.course.entity.TestQuestion;
+import com.course.entity.TestQuestionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttemptScoringBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int questionCount;
+
+    private List<TestQuestion> questions;
+    private Integer[] selectedOptions;
+    private String[] textAnswers;
+
+    private TextAnswerMatcherCache matchers;
+    private TestQuestion textQuestion;
+    private TextAnswerMatcher textMatcher;
+    private String matchingText;
+    private String mismatchingText;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        questions = new ArrayList<>(questionCount);
+        selectedOptions = new Integer[questionCount];
+        textAnswers = new String[questionCount];
+
+        for (int i = 0; i < questionCount; i++) {
+            TestQuestion q = new TestQuestion();
+            q.setId(i + 1);
+            q.setOrderIndex(i + 1);
+            q.setPoints(1 + random.nextInt(3));
+            int kind = i % 3;
+            if (kind == 0) {
+                q.setQuestionType(TestQuestionType.SINGLE_CHOICE);
+                q.setCorrectOption(1 + random.nextInt(4));
+                selectedOptions[i] = 1 + random.nextInt(4);
+            } else if (kind == 1) {
+                q.setQuestionType(TestQuestionType.TEXT);
+                q.setCorrectTextAnswer("Фотосинтез " + i);
+                textAnswers[i] = random.nextBoolean() ? "  фотосинтез " + i + " " : "хемосинтез " + i;
+            } else {
+                q.setQuestionType(TestQuestionType.OPEN);
+                textAnswers[i] = "Развёрнутый ответ ученика на вопрос " + i;
+            }
+            questions.add(q);
+        }
+
+        matchers = new TextAnswerMatcherCache();
+        textQuestion = new TestQuestion();
+        textQuestion.setQuestionType(TestQuestionType.TEXT);
+        textQuestion.setCorrectTextAnswer("Пифагорова теорема");
+        textMatcher = TextAnswerMatcher.compile(textQuestion);
+        matchingText = "  пифагорова ТЕОРЕМА  ";
+        mismatchingText = "теорема Ферма";
+    }
+
+    @Benchmark
+    public void scoreSubmission(Blackhole bh) {
+        int awarded = 0;
+        int max = 0;
+        for (int i = 0; i < questions.size(); i++) {
+            TestQuestion q = questions.get(i);
+            int points = AttemptScoring.questionPoints(q);
+            max += points;
+            if (AttemptScoring.questionType(q) != TestQuestionType.OPEN
+                    && AttemptScoring.isAutoCorrect(matchers, q, selectedOptions[i], textAnswers[i])) {
+                awarded += points;
+            }
+        }
+        bh.consume(awarded);
+        bh.consume(max);
+    }
+
+    @Benchmark
+    public boolean textAnswerMatch() {
+        return textMatcher.matches(matchingText);
+    }
+
+    @Benchmark
+    public boolean textAnswerMismatch() {
+        return textMatcher.matches(mismatchingText);
+    }
+
+    @Benchmark
+    public boolean textAnswerCompileAndMatch() {
+        return TextAnswerMatcher.compile(textQuestion).matches(matchingText);
+    }
+}
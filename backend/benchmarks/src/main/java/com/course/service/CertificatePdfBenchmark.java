@@ -0,0 +1,47 @@
+package com.course.service;
+
+import com.course.entity.Course;
+import com.course.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertificatePdfBenchmark {
+
+    private CertificatePdfService service;
+    private Course course;
+    private User student;
+
+    @Setup
+    public void setUp() {
+        service = new CertificatePdfService();
+
+        course = new Course();
+        course.setId(1);
+        course.setName("Основы программирования на Java для старших классов");
+
+        student = new User();
+        student.setId(1);
+        student.setName("Александра Константиновна Рождественская");
+    }
+
+    @Benchmark
+    public byte[] generateCertificate() {
+        return service.generateCourseCertificate(course, "Мария Ивановна Петрова", student, 87, 100);
+    }
+}
@@ -0,0 +1,103 @@
+package com.course.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlideRenderBenchmark {
+
+    private static final int PAGE_COUNT = 5;
+
+    @Param({"72", "144", "300"})
+    public int dpi;
+
+    private byte[] pdfBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        pdfBytes = buildSamplePresentation();
+    }
+
+    
+    @Benchmark
+    public byte[] loadAndRenderPage() throws IOException {
+        try (PDDocument doc = Loader.loadPDF(pdfBytes)) {
+            return LessonPresentationSlideService.renderPageToPng(doc, 2, dpi);
+        }
+    }
+
+    private static byte[] buildSamplePresentation() throws IOException {
+        PDType1Font title = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+        PDType1Font body = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+
+        try (PDDocument doc = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int p = 1; p <= PAGE_COUNT; p++) {
+                PDRectangle landscape = new PDRectangle(PDRectangle.A4.getHeight(), PDRectangle.A4.getWidth());
+                PDPage page = new PDPage(landscape);
+                doc.addPage(page);
+
+                try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                    cs.setNonStrokingColor(new Color(235, 242, 250));
+                    cs.addRect(0, 0, landscape.getWidth(), landscape.getHeight());
+                    cs.fill();
+
+                    cs.setNonStrokingColor(new Color(40, 90, 160));
+                    cs.addRect(40, landscape.getHeight() - 110, landscape.getWidth() - 80, 70);
+                    cs.fill();
+
+                    cs.beginText();
+                    cs.setNonStrokingColor(Color.WHITE);
+                    cs.setFont(title, 28);
+                    cs.newLineAtOffset(60, landscape.getHeight() - 85);
+                    cs.showText("Lesson slide " + p);
+                    cs.endText();
+
+                    cs.setNonStrokingColor(Color.DARK_GRAY);
+                    cs.setFont(body, 14);
+                    for (int line = 0; line < 18; line++) {
+                        cs.beginText();
+                        cs.newLineAtOffset(60, landscape.getHeight() - 150 - line * 22);
+                        cs.showText("Bullet point " + (line + 1) + ": sample presentation text for rendering benchmark");
+                        cs.endText();
+                    }
+
+                    cs.setStrokingColor(new Color(200, 60, 60));
+                    cs.setLineWidth(3f);
+                    for (int i = 0; i < 12; i++) {
+                        cs.moveTo(500 + i * 20, 80);
+                        cs.lineTo(520 + i * 20, 80 + (i % 4 + 1) * 40);
+                    }
+                    cs.stroke();
+                }
+            }
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.course.service;
+
+import com.course.dto.statistics.TeacherStatsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsCsvBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int rowCount;
+
+    private List<TeacherStatsResponse> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            TeacherStatsResponse r = new TeacherStatsResponse();
+            r.setTeacherId(i + 1);
+            
+            r.setTeacherName(i % 10 == 0 ? "Иванова, Мария \"Математика\"" : "Учитель " + i);
+            r.setTeacherEmail("teacher" + i + "@school.local");
+            r.setClassesCount((long) (i % 7));
+            r.setStudentsCount((long) (i % 7) * 25);
+            r.setSubmittedAttemptsCount((long) i * 3);
+            r.setGradedAttemptsCount((long) i * 2);
+            r.setAvgGradePercent(i % 5 == 0 ? null : (i % 100) + 0.25);
+            rows.add(r);
+        }
+    }
+
+    @Benchmark
+    public String buildCsv() {
+        return StatisticsService.buildTeacherStatsCsv(rows);
+    }
+}
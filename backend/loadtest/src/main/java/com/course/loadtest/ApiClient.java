@@ -0,0 +1,124 @@
+package com.course.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+
+final class ApiClient {
+
+    static final class ApiException extends RuntimeException {
+        final int status;
+
+        ApiException(String label, int status, String body) {
+            super(label + " -> HTTP " + status + ": " + (body.length() > 200 ? body.substring(0, 200) : body));
+            this.status = status;
+        }
+    }
+
+    private final String baseUrl;
+    private final String password;
+    private final LatencyStats stats;
+    private final HttpClient http;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    ApiClient(String baseUrl, String password, LatencyStats stats, int concurrency) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.password = password;
+        this.stats = stats;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, concurrency / 2)))
+                .build();
+    }
+
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    String login(String username) {
+        String body = mapper.createObjectNode().put("username", username).put("password", password).toString();
+        JsonNode res = send("POST /api/auth/login", "POST", "/api/auth/login", body, null);
+        String token = res.path("accessToken").asText(null);
+        if (token == null) {
+            throw new ApiException("POST /api/auth/login", 200, "no accessToken in response");
+        }
+        tokens.put(username, token);
+        return token;
+    }
+
+    JsonNode get(String label, String user, String path) {
+        return authorized(label, "GET", path, null, user);
+    }
+
+    JsonNode post(String label, String user, String path, String json) {
+        return authorized(label, "POST", path, json, user);
+    }
+
+    JsonNode put(String label, String user, String path, String json) {
+        return authorized(label, "PUT", path, json, user);
+    }
+
+    private JsonNode authorized(String label, String method, String path, String json, String user) {
+        String token = tokens.get(user);
+        if (token == null) {
+            token = login(user);
+        }
+        try {
+            return send(label, method, path, json, token);
+        } catch (ApiException ex) {
+            if (ex.status != 401) {
+                throw ex;
+            }
+            return send(label, method, path, json, login(user));
+        }
+    }
+
+    private JsonNode send(String label, String method, String path, String json, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            b.header("Authorization", "Bearer " + token);
+        }
+        if (json != null) {
+            b.header("Content-Type", "application/json");
+            b.method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            b.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> res;
+        try {
+            res = http.send(b.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            stats.record(label, System.nanoTime() - start, false);
+            throw new ApiException(label, -1, ex.getMessage() == null ? ex.toString() : ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(label, -1, "interrupted");
+        }
+        boolean ok = res.statusCode() >= 200 && res.statusCode() < 300;
+        stats.record(label, System.nanoTime() - start, ok);
+        if (!ok) {
+            throw new ApiException(label, res.statusCode(), res.body());
+        }
+        try {
+            String body = res.body();
+            return body == null || body.isBlank() ? mapper.nullNode() : mapper.readTree(body);
+        } catch (IOException ex) {
+            return mapper.nullNode();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.course.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+final class LatencyStats {
+
+    record Summary(String name, long count, long errors, double throughputPerSecond,
+                   double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs) {}
+
+    private static final class Recorder {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summarize(String name, double seconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new Summary(name, size, errors, seconds > 0 ? size / seconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.95),
+                    percentile(sorted, 0.99), size == 0 ? 0 : sorted[size - 1] / 1_000_000.0);
+        }
+    }
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    void record(String name, long nanos, boolean ok) {
+        if (!enabled) {
+            return;
+        }
+        recorders.computeIfAbsent(name, k -> new Recorder()).add(nanos, ok);
+    }
+
+    void reset() {
+        recorders.clear();
+    }
+
+    Map<String, Summary> summarize(double seconds) {
+        Map<String, Summary> out = new TreeMap<>();
+        recorders.forEach((name, r) -> out.put(name, r.summarize(name, seconds)));
+        return out;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.course.loadtest;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+
+final class LoadTestConfig {
+
+    String baseUrl = "http://localhost:8080";
+    String jdbcUrl = "jdbc:postgresql://localhost:5432/course_db";
+    String dbUser = "postgres";
+    String dbPassword = "postgres";
+    String password = "pass";
+
+    int concurrency = 16;
+    int durationSeconds = 60;
+    int warmupSeconds = 10;
+    String reportFile = "loadtest-report.json";
+
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg + " (expected --key=value)");
+            }
+            int eq = arg.indexOf('=');
+            opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestConfig c = new LoadTestConfig();
+        c.baseUrl = opts.getOrDefault("base-url", env("LOADTEST_BASE_URL", c.baseUrl));
+        c.jdbcUrl = opts.getOrDefault("jdbc-url", env("LOADTEST_JDBC_URL", c.jdbcUrl));
+        c.dbUser = opts.getOrDefault("db-user", env("LOADTEST_DB_USER", c.dbUser));
+        c.dbPassword = opts.getOrDefault("db-password", env("LOADTEST_DB_PASSWORD", c.dbPassword));
+        c.password = opts.getOrDefault("password", c.password);
+        c.concurrency = Integer.parseInt(opts.getOrDefault("concurrency", String.valueOf(c.concurrency)));
+        c.durationSeconds = Integer.parseInt(opts.getOrDefault("duration", String.valueOf(c.durationSeconds)));
+        c.warmupSeconds = Integer.parseInt(opts.getOrDefault("warmup", String.valueOf(c.warmupSeconds)));
+        c.reportFile = opts.getOrDefault("report", c.reportFile);
+
+        
+        c.mix.put(Operation.LOGIN, 5);
+        c.mix.put(Operation.COURSE_PAGE, 45);
+        c.mix.put(Operation.SUBMIT_ATTEMPT, 25);
+        c.mix.put(Operation.GRADE_ATTEMPT, 10);
+        c.mix.put(Operation.STATISTICS, 15);
+        String mix = opts.get("mix");
+        if (mix != null && !mix.isBlank()) {
+            c.mix.replaceAll((k, v) -> 0);
+            for (String part : mix.split(",")) {
+                String[] kv = part.split(":");
+                if (kv.length != 2) {
+                    throw new IllegalArgumentException("Invalid mix entry: " + part);
+                }
+                c.mix.put(Operation.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+            }
+        }
+        if (c.concurrency < 1 || c.durationSeconds < 1 || c.warmupSeconds < 0) {
+            throw new IllegalArgumentException("concurrency and duration must be positive, warmup non-negative");
+        }
+        return c;
+    }
+
+    private static String env(String name, String def) {
+        String v = System.getenv(name);
+        return v == null || v.isBlank() ? def : v;
+    }
+}
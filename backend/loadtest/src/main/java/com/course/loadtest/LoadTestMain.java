@@ -0,0 +1,212 @@
+package com.course.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+public final class LoadTestMain {
+
+    private final LoadTestConfig config;
+    private final Workload workload;
+    private final LatencyStats stats = new LatencyStats();
+    private final ApiClient api;
+    private final Operation[] weighted;
+    private final AtomicLong skipped = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    private LoadTestMain(LoadTestConfig config, Workload workload) {
+        this.config = config;
+        this.workload = workload;
+        this.api = new ApiClient(config.baseUrl, config.password, stats, config.concurrency);
+
+        List<Operation> ops = new ArrayList<>();
+        config.mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                ops.add(op);
+            }
+        });
+        if (ops.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix is empty");
+        }
+        this.weighted = ops.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Workload workload = Workload.load(config);
+        System.out.printf("Loaded %d students, %d teachers, %d methodists, %d attempt slots%n",
+                workload.students.size(), workload.teachers.size(), workload.methodists.size(),
+                workload.attemptPairs.size());
+        new LoadTestMain(config, workload).run();
+    }
+
+    private void run() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(config.concurrency);
+        for (int i = 0; i < config.concurrency; i++) {
+            pool.submit(this::loop);
+        }
+
+        if (config.warmupSeconds > 0) {
+            System.out.printf("Warmup %ds...%n", config.warmupSeconds);
+            TimeUnit.SECONDS.sleep(config.warmupSeconds);
+        }
+        stats.reset();
+        Instant started = Instant.now();
+        System.out.printf("Measuring %ds with %d workers...%n", config.durationSeconds, config.concurrency);
+        TimeUnit.SECONDS.sleep(config.durationSeconds);
+        stats.setEnabled(false);
+        double seconds = (Instant.now().toEpochMilli() - started.toEpochMilli()) / 1000.0;
+
+        running = false;
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+
+        Map<String, LatencyStats.Summary> summary = stats.summarize(seconds);
+        printTable(summary);
+        writeReport(summary, started, seconds);
+        System.exit(0);
+    }
+
+    private void loop() {
+        while (running) {
+            Operation op = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+            long start = System.nanoTime();
+            boolean ok = true;
+            try {
+                if (!execute(op)) {
+                    skipped.incrementAndGet();
+                    continue;
+                }
+            } catch (RuntimeException ex) {
+                ok = false;
+            }
+            stats.record("op " + op.name(), System.nanoTime() - start, ok);
+        }
+    }
+
+    private boolean execute(Operation op) {
+        return switch (op) {
+            case LOGIN -> {
+                api.login(workload.randomStudent().name());
+                yield true;
+            }
+            case COURSE_PAGE -> {
+                Workload.Student s = workload.randomStudent();
+                api.get("GET /api/me/courses/{id}/page", s.name(), "/api/me/courses/" + s.courseId() + "/page");
+                yield true;
+            }
+            case SUBMIT_ATTEMPT -> submitAttempt();
+            case GRADE_ATTEMPT -> gradeAttempt();
+            case STATISTICS -> {
+                if (ThreadLocalRandom.current().nextBoolean()) {
+                    api.get("GET /api/statistics/teachers", workload.randomMethodist(), "/api/statistics/teachers");
+                } else {
+                    api.get("GET /api/me/statistics/overview", workload.randomStudent().name(), "/api/me/statistics/overview");
+                }
+                yield true;
+            }
+        };
+    }
+
+    private boolean submitAttempt() {
+        Workload.AttemptPair pair = workload.attemptPairs.poll();
+        if (pair == null) {
+            return false;
+        }
+        List<Workload.Question> questions = workload.questionsByTest.get(pair.testId());
+        if (questions == null || questions.isEmpty()) {
+            return false;
+        }
+
+        JsonNode attempt = api.post("POST /api/activities/{id}/attempts", pair.studentName(),
+                "/api/activities/" + pair.testId() + "/attempts", null);
+        int attemptId = attempt.path("id").asInt();
+
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        ObjectNode body = api.mapper().createObjectNode();
+        ArrayNode answers = body.putArray("answers");
+        for (Workload.Question q : questions) {
+            ObjectNode a = answers.addObject().put("questionId", q.id());
+            switch (q.type()) {
+                case "SINGLE_CHOICE" -> a.put("selectedOption",
+                        q.correctOption() != null && rnd.nextInt(100) < 70 ? q.correctOption() : rnd.nextInt(1, 5));
+                case "TEXT" -> a.put("textAnswer",
+                        q.correctText() != null && rnd.nextInt(100) < 60 ? q.correctText() : "не знаю");
+                default -> a.put("textAnswer", "Развёрнутый ответ студента " + rnd.nextInt(1_000_000));
+            }
+        }
+        api.post("POST /api/attempts/{id}/submit", pair.studentName(),
+                "/api/attempts/" + attemptId + "/submit", body.toString());
+        return true;
+    }
+
+    private boolean gradeAttempt() {
+        String teacher = workload.randomTeacher();
+        JsonNode page = api.get("GET /api/attempts/pending", teacher, "/api/attempts/pending?page=0&size=20");
+        JsonNode content = page.path("content");
+        if (!content.isArray() || content.isEmpty()) {
+            return false;
+        }
+        int attemptId = content.get(ThreadLocalRandom.current().nextInt(content.size())).path("attemptId").asInt();
+
+        JsonNode attempt = api.get("GET /api/attempts/{id}", teacher, "/api/attempts/" + attemptId);
+        ObjectNode body = api.mapper().createObjectNode();
+        ArrayNode grades = body.putArray("grades");
+        for (JsonNode answer : attempt.path("answers")) {
+            Workload.Question q = workload.questionsById.get(answer.path("questionId").asInt());
+            if (q == null || !"OPEN".equals(q.type())) {
+                continue;
+            }
+            grades.addObject()
+                    .put("questionId", q.id())
+                    .put("pointsAwarded", ThreadLocalRandom.current().nextInt(q.points() + 1))
+                    .put("feedback", "Проверено");
+        }
+        if (grades.isEmpty()) {
+            return false;
+        }
+        api.put("PUT /api/attempts/{id}/grade", teacher, "/api/attempts/" + attemptId + "/grade", body.toString());
+        return true;
+    }
+
+    private void printTable(Map<String, LatencyStats.Summary> summary) {
+        System.out.printf("%n%-36s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "name", "count", "errors", "rps", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        for (LatencyStats.Summary s : summary.values()) {
+            System.out.printf("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.name(), s.count(), s.errors(), s.throughputPerSecond(),
+                    s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs());
+        }
+        System.out.printf("skipped (no work available): %d%n", skipped.get());
+    }
+
+    private void writeReport(Map<String, LatencyStats.Summary> summary, Instant started, double seconds) throws Exception {
+        ObjectNode root = api.mapper().createObjectNode();
+        root.put("startedAt", started.toString());
+        root.put("durationSeconds", seconds);
+        root.put("concurrency", config.concurrency);
+        root.put("baseUrl", config.baseUrl);
+        ObjectNode mix = root.putObject("mix");
+        config.mix.forEach((op, w) -> mix.put(op.name(), w));
+        root.put("skipped", skipped.get());
+        ArrayNode results = root.putArray("results");
+        for (LatencyStats.Summary s : summary.values()) {
+            results.add(api.mapper().<JsonNode>valueToTree(s));
+        }
+        api.mapper().writerWithDefaultPrettyPrinter().writeValue(new File(config.reportFile), root);
+        System.out.println("Report written to " + config.reportFile);
+    }
+}
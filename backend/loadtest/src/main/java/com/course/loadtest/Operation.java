@@ -0,0 +1,10 @@
+package com.course.loadtest;
+
+
+enum Operation {
+    LOGIN,
+    COURSE_PAGE,
+    SUBMIT_ATTEMPT,
+    GRADE_ATTEMPT,
+    STATISTICS
+}
@@ -0,0 +1,105 @@
+package com.course.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+final class Workload {
+
+    private static final int MAX_ATTEMPT_PAIRS = 200_000;
+
+    record Student(String name, int courseId) {}
+
+    record AttemptPair(String studentName, int testId) {}
+
+    record Question(int id, String type, int points, Integer correctOption, String correctText) {}
+
+    final List<Student> students = new ArrayList<>();
+    final List<String> teachers = new ArrayList<>();
+    final List<String> methodists = new ArrayList<>();
+    final Map<Integer, List<Question>> questionsByTest = new HashMap<>();
+    final Map<Integer, Question> questionsById = new HashMap<>();
+    final ConcurrentLinkedQueue<AttemptPair> attemptPairs = new ConcurrentLinkedQueue<>();
+
+    static Workload load(LoadTestConfig config) throws SQLException {
+        Workload w = new Workload();
+        try (Connection c = DriverManager.getConnection(config.jdbcUrl, config.dbUser, config.dbPassword)) {
+            query(c, """
+                    SELECT u.name, cl.course_id
+                    FROM users u
+                    JOIN class_students cs ON cs.student_id = u.id
+                    JOIN classes cl ON cl.id = cs.class_id
+                    WHERE u.name LIKE 'lt\\_s%' AND NOT u.deleted
+                    """, rs -> w.students.add(new Student(rs.getString(1), rs.getInt(2))));
+
+            query(c, "SELECT name FROM users WHERE name LIKE 'lt\\_t%' AND NOT deleted",
+                    rs -> w.teachers.add(rs.getString(1)));
+            query(c, "SELECT name FROM users WHERE name LIKE 'lt\\_m%' AND NOT deleted",
+                    rs -> w.methodists.add(rs.getString(1)));
+
+            query(c, """
+                    SELECT tq.id, tq.test_id, tq.question_type, tq.points, tq.correct_option, tq.correct_text_answer
+                    FROM test_questions tq
+                    JOIN tests t ON t.id = tq.test_id
+                    JOIN courses co ON co.id = t.course_id
+                    WHERE co.name LIKE 'LT %'
+                    ORDER BY tq.test_id, tq.order_index
+                    """, rs -> {
+                Integer correctOption = (Integer) rs.getObject(5);
+                Question q = new Question(rs.getInt(1), rs.getString(3), Math.max(rs.getInt(4), 1), correctOption, rs.getString(6));
+                w.questionsByTest.computeIfAbsent(rs.getInt(2), k -> new ArrayList<>()).add(q);
+                w.questionsById.put(q.id(), q);
+            });
+
+            
+            query(c, """
+                    SELECT u.name, t.id
+                    FROM users u
+                    JOIN class_students cs ON cs.student_id = u.id
+                    JOIN classes cl ON cl.id = cs.class_id
+                    JOIN tests t ON t.course_id = cl.course_id AND t.status = 'READY' AND t.lesson_id IS NOT NULL
+                    WHERE u.name LIKE 'lt\\_s%'
+                      AND (SELECT COUNT(*) FROM test_attempts ta WHERE ta.test_id = t.id AND ta.student_id = u.id) < 2
+                    ORDER BY random()
+                    LIMIT """ + MAX_ATTEMPT_PAIRS, rs -> w.attemptPairs.add(new AttemptPair(rs.getString(1), rs.getInt(2))));
+        }
+
+        if (w.students.isEmpty() || w.teachers.isEmpty() || w.methodists.isEmpty()) {
+            throw new IllegalStateException("Synthetic dataset not found. Run db/loadtest/seed_school.sql first.");
+        }
+        return w;
+    }
+
+    Student randomStudent() {
+        return students.get(ThreadLocalRandom.current().nextInt(students.size()));
+    }
+
+    String randomTeacher() {
+        return teachers.get(ThreadLocalRandom.current().nextInt(teachers.size()));
+    }
+
+    String randomMethodist() {
+        return methodists.get(ThreadLocalRandom.current().nextInt(methodists.size()));
+    }
+
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException;
+    }
+
+    private static void query(Connection c, String sql, RowHandler handler) throws SQLException {
+        try (PreparedStatement ps = c.prepareStatement(sql); ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                handler.handle(rs);
+            }
+        }
+    }
+}
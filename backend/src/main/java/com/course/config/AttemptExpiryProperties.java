@@ -0,0 +1,26 @@
+package com.course.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+@Data
+@ConfigurationProperties(prefix = "app.attempts.expiry")
+public class AttemptExpiryProperties {
+
+    private boolean enabled = true;
+
+    
+    private long tickMillis = 1000;
+
+    
+    private int wheelSize = 512;
+
+    
+    private long sweepIntervalMillis = 30000;
+
+    
+    private long seedHorizonSeconds = 300;
+
+    private int batchSize = 100;
+}
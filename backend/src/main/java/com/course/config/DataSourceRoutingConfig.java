@@ -0,0 +1,70 @@
+package com.course.config;
+
+import com.course.datasource.ReadWriteRoutingDataSource;
+import com.course.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSourceProperties props,
+                                               DataSourceProperties primaryProps,
+                                               MeterRegistry meterRegistry) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setDriverClassName(primaryProps.determineDriverClassName());
+        replica.setJdbcUrl(props.getUrl());
+        replica.setUsername(props.getUsername() != null ? props.getUsername() : primaryProps.determineUsername());
+        replica.setPassword(props.getPassword() != null ? props.getPassword() : primaryProps.determinePassword());
+        replica.setMaximumPoolSize(props.getMaximumPoolSize());
+        replica.setMinimumIdle(props.getMinimumIdle());
+        replica.setConnectionTimeout(props.getConnectionTimeoutMillis());
+        replica.setMaxLifetime(props.getMaxLifetimeMillis());
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, props.getMaxLagSeconds());
+        Gauge.builder("app.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .description("Replica replay lag in seconds (NaN when unreachable)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("app.datasource.replica.usable", monitor, m -> m.isReplicaUsable() ? 1 : 0)
+                .register(meterRegistry);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties primaryProps,
+                                 Environment environment,
+                                 ReplicaLagMonitor lagMonitor,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = primaryProps.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, lagMonitor.replicaDataSource(), lagMonitor));
+    }
+}
@@ -0,0 +1,26 @@
+package com.course.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+@Data
+@ConfigurationProperties(prefix = "app.execution")
+public class ExecutionProperties {
+
+    
+    private boolean virtualThreads = false;
+
+    
+    private int renderPermits = 0;
+
+    private long renderAcquireTimeoutMillis = 5000;
+
+    private int renderPoolSize = 8;
+
+    private int mailPoolSize = 4;
+
+    private int storagePoolSize = 8;
+
+    private int queueCapacity = 100;
+}
@@ -0,0 +1,9 @@
+package com.course.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ProvisioningProperties.class)
+public class ProvisioningConfig {
+}
@@ -0,0 +1,18 @@
+package com.course.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+@Data
+@ConfigurationProperties(prefix = "app.provisioning")
+public class ProvisioningProperties {
+
+    private int maxRows = 5000;
+
+    
+    private int batchSize = 500;
+
+    
+    private int hashThreads = 0;
+}
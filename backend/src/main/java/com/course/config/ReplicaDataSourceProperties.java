@@ -0,0 +1,31 @@
+package com.course.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    private int minimumIdle = 2;
+
+    private long connectionTimeoutMillis = 3000;
+
+    private long maxLifetimeMillis = 1800000;
+
+    
+    private long maxLagSeconds = 10;
+
+    private long lagCheckIntervalMillis = 5000;
+}
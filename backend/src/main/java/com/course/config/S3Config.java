@@ -1,5 +1,7 @@
 package com.course.config;
 
+import com.course.metrics.S3MetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,7 +20,7 @@ import java.net.URI;
 public class S3Config {
 
     @Bean
-    public S3Client s3Client(S3Properties props) {
+    public S3Client s3Client(S3Properties props, MeterRegistry meterRegistry) {
         return S3Client.builder()
                 .endpointOverride(URI.create(props.getEndpoint()))
                 .credentialsProvider(StaticCredentialsProvider.create(
@@ -29,6 +31,7 @@ public class S3Config {
                         .pathStyleAccessEnabled(true)
                         .build())
                 .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .overrideConfiguration(c -> c.addExecutionInterceptor(new S3MetricsInterceptor(meterRegistry)))
                 .build();
     }
 }
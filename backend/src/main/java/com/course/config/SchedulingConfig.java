@@ -0,0 +1,11 @@
+package com.course.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({AttemptExpiryProperties.class, SlideIndexProperties.class})
+public class SchedulingConfig {
+}
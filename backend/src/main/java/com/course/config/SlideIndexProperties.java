@@ -0,0 +1,27 @@
+package com.course.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+@Data
+@ConfigurationProperties(prefix = "app.slide-index")
+public class SlideIndexProperties {
+
+    private boolean enabled = true;
+
+    
+    private long backfillIntervalMillis = 60000;
+
+    private int backfillBatchSize = 5;
+
+    
+    private int maxPageChars = 20000;
+
+    private int queueCapacity = 16;
+
+    
+    private long failedRetryMillis = 21600000;
+
+    private int maxFailedUrls = 1000;
+}
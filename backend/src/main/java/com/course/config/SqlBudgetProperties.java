@@ -0,0 +1,38 @@
+package com.course.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+@Data
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlBudgetProperties {
+
+    private boolean enabled = true;
+
+    
+    private int defaultBudget = 50;
+
+    
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    
+    private boolean debugHeader = false;
+
+    
+    private List<String> unbufferedPaths = new ArrayList<>(List.of("/api/**/export/csv"));
+
+    
+    private boolean failOnExceed = false;
+
+    private int offenderSamples = 5;
+
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultBudget);
+    }
+}
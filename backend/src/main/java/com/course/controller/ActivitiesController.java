@@ -3,16 +3,21 @@ package com.course.controller;
 import com.course.dto.activity.ActivityCreateRequest;
 import com.course.dto.activity.ActivityQuestionResponse;
 import com.course.dto.activity.ActivityQuestionUpsertRequest;
+import com.course.dto.activity.ActivityQuestionsBulkRequest;
+import com.course.dto.activity.ActivityQuestionsBulkResponse;
 import com.course.dto.activity.ActivityResponse;
 import com.course.dto.activity.ActivityUpsertRequest;
 import com.course.dto.activity.WeeklyActivityAssignRequest;
+import com.course.service.QuestionBankImportService;
 import com.course.service.TestService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -23,6 +28,7 @@ import java.util.List;
 public class ActivitiesController {
 
     private final TestService testService;
+    private final QuestionBankImportService questionBankImportService;
 
 
     @PostMapping(value = "/lessons/{lessonId}/activities", consumes = {"application/json"})
@@ -66,8 +72,8 @@ public class ActivitiesController {
 
     @GetMapping("/activities/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','TEACHER','METHODIST','STUDENT')")
-    public ResponseEntity<?> getActivity(@PathVariable Integer id) {
-        return ResponseEntity.ok(testService.getById(id));
+    public ResponseEntity<?> getActivity(@PathVariable Integer id, HttpServletRequest request) {
+        return ConditionalResponses.ok(request, testService.getByIdVersion(id), () -> testService.getById(id));
     }
 
     @PutMapping(value = "/activities/{id}", consumes = {"application/json"})
@@ -109,6 +115,24 @@ public class ActivitiesController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PutMapping(value = "/activities/{activityId}/questions", consumes = {"application/json"})
+    @PreAuthorize("hasRole('METHODIST')")
+    public ResponseEntity<ActivityQuestionsBulkResponse> replaceQuestions(
+            @PathVariable Integer activityId,
+            @Valid @RequestBody ActivityQuestionsBulkRequest dto
+    ) {
+        return ResponseEntity.ok(testService.bulkUpsertQuestions(activityId, dto.getQuestions()));
+    }
+
+    @PostMapping(value = "/activities/{activityId}/questions/import", consumes = {"multipart/form-data"})
+    @PreAuthorize("hasRole('METHODIST')")
+    public ResponseEntity<ActivityQuestionsBulkResponse> importQuestions(
+            @PathVariable Integer activityId,
+            @RequestPart("file") MultipartFile file
+    ) {
+        return ResponseEntity.ok(questionBankImportService.importQuestions(activityId, file));
+    }
+
     @PutMapping(value = "/activities/{activityId}/questions/{questionId}", consumes = {"application/json"})
     @PreAuthorize("hasRole('METHODIST')")
     public ResponseEntity<ActivityQuestionResponse> updateQuestion(
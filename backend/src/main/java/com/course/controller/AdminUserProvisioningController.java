@@ -0,0 +1,34 @@
+package com.course.controller;
+
+import com.course.dto.user.BulkUserProvisionRequest;
+import com.course.dto.user.BulkUserProvisionResponse;
+import com.course.service.UserProvisioningService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "Массовое создание пользователей", description = "API администратора для массовой регистрации пользователей")
+public class AdminUserProvisioningController {
+
+    private final UserProvisioningService userProvisioningService;
+
+    @Operation(
+            summary = "Массовая регистрация пользователей",
+            description = "Создает методистов, преподавателей и студентов одним запросом. Строки с ошибками пропускаются и возвращаются в отчете; для строк без пароля генерируется временный пароль."
+    )
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkUserProvisionResponse> provision(@Valid @RequestBody BulkUserProvisionRequest req) {
+        return ResponseEntity.ok(userProvisioningService.provision(req));
+    }
+}
@@ -1,11 +1,18 @@
 package com.course.controller;
 
+import com.course.dto.attempt.AnswerClustersResponse;
 import com.course.dto.attempt.AttemptGradeRequest;
+import com.course.dto.attempt.BatchGradeRequest;
+import com.course.dto.attempt.BatchGradeResponse;
+import com.course.dto.attempt.ClusterGradeRequest;
 import com.course.dto.attempt.AttemptResponse;
 import com.course.dto.attempt.AttemptSubmitRequest;
 import com.course.dto.attempt.AttemptSummaryResponse;
 import com.course.dto.attempt.PendingAttemptResponse;
+import com.course.dto.attempt.SimilarAnswersResponse;
 import com.course.dto.common.PageResponse;
+import com.course.service.AnswerClusteringService;
+import com.course.service.BatchGradingService;
 import com.course.service.TestAttemptService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +29,8 @@ import java.util.List;
 public class AttemptsController {
 
     private final TestAttemptService attemptService;
+    private final BatchGradingService batchGradingService;
+    private final AnswerClusteringService answerClusteringService;
 
     @PostMapping("/activities/{activityId}/attempts")
     @PreAuthorize("hasRole('STUDENT')")
@@ -66,6 +75,49 @@ public class AttemptsController {
         return ResponseEntity.ok(attemptService.gradeOpenAttempt(attemptId, dto));
     }
 
+    @PutMapping(value = "/activities/{activityId}/questions/{questionId}/grades", consumes = {"application/json"})
+    @PreAuthorize("hasAnyRole('ADMIN','TEACHER','METHODIST')")
+    public ResponseEntity<BatchGradeResponse> gradeQuestionBatch(
+            @PathVariable Integer activityId,
+            @PathVariable Integer questionId,
+            @Valid @RequestBody BatchGradeRequest dto
+    ) {
+        return ResponseEntity.ok(batchGradingService.gradeQuestion(activityId, questionId, dto));
+    }
+
+    @GetMapping("/activities/{activityId}/questions/{questionId}/answer-clusters")
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
+    public ResponseEntity<AnswerClustersResponse> listAnswerClusters(
+            @PathVariable Integer activityId,
+            @PathVariable Integer questionId,
+            @RequestParam(required = false) Integer classId
+    ) {
+        return ResponseEntity.ok(answerClusteringService.getClusters(activityId, questionId, classId));
+    }
+
+    @PutMapping(value = "/activities/{activityId}/questions/{questionId}/answer-clusters/{clusterKey}/grade", consumes = {"application/json"})
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
+    public ResponseEntity<BatchGradeResponse> gradeAnswerCluster(
+            @PathVariable Integer activityId,
+            @PathVariable Integer questionId,
+            @PathVariable String clusterKey,
+            @RequestParam(required = false) Integer classId,
+            @Valid @RequestBody ClusterGradeRequest dto
+    ) {
+        return ResponseEntity.ok(answerClusteringService.gradeCluster(activityId, questionId, clusterKey, classId, dto));
+    }
+
+    @GetMapping("/activities/{activityId}/questions/{questionId}/similar-answers")
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
+    public ResponseEntity<SimilarAnswersResponse> listSimilarAnswers(
+            @PathVariable Integer activityId,
+            @PathVariable Integer questionId,
+            @RequestParam(required = false) Integer classId,
+            @RequestParam(required = false) Double threshold
+    ) {
+        return ResponseEntity.ok(answerClusteringService.getSimilarAnswers(activityId, questionId, classId, threshold));
+    }
+
     @GetMapping("/attempts/pending")
     @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
     public ResponseEntity<PageResponse<PendingAttemptResponse>> listPendingAttempts(
@@ -3,6 +3,8 @@ package com.course.controller;
 import com.course.dto.achievement.StudentAchievementResponse;
 import com.course.dto.common.PageResponse;
 import com.course.dto.user.UserResponse;
+import com.course.dto.classroom.ClassLeaderboardResponse;
+import com.course.dto.classroom.RosterImportResponse;
 import com.course.dto.classroom.StudyClassResponse;
 import com.course.dto.classroom.StudyClassUpsertRequest;
 import com.course.entity.Lesson;
@@ -13,6 +15,7 @@ import com.course.entity.TestStatus;
 import com.course.entity.User;
 import com.course.exception.ForbiddenOperationException;
 import com.course.service.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -36,7 +40,9 @@ public class ClassesController {
     private final ClassOpenedTestService classOpenedTestService;
     private final ClassStudentService classStudentService;
     private final ClassAchievementFeedService feedService;
+    private final ClassLeaderboardService leaderboardService;
     private final UserService userService;
+    private final ClassJoinRequestService joinRequestService;
 
     
 
@@ -173,6 +179,13 @@ public class ClassesController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping(value = "/classes/{classId}/students/import", consumes = {"multipart/form-data"})
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
+    public ResponseEntity<RosterImportResponse> importRoster(@PathVariable Integer classId,
+                                                             @RequestPart("file") MultipartFile file) {
+        return ResponseEntity.ok(joinRequestService.importRoster(classId, file));
+    }
+
     @GetMapping("/classes/{classId}/students")
     @PreAuthorize("hasAnyRole('ADMIN','METHODIST','TEACHER','STUDENT')")
     public ResponseEntity<PageResponse<UserResponse>> listClassStudents(@PathVariable Integer classId, Pageable pageable) {
@@ -181,9 +194,18 @@ public class ClassesController {
 
     
 
+    @GetMapping("/classes/{classId}/leaderboard")
+    @PreAuthorize("hasAnyRole('ADMIN','METHODIST','TEACHER','STUDENT')")
+    public ResponseEntity<ClassLeaderboardResponse> getClassLeaderboard(
+            @PathVariable Integer classId,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(classId, limit));
+    }
+
     @GetMapping("/classes/{classId}/achievement-feed")
     @PreAuthorize("hasAnyRole('ADMIN','METHODIST','TEACHER','STUDENT')")
-    public ResponseEntity<PageResponse<StudentAchievementResponse>> getClassAchievementFeed(@PathVariable Integer classId, Pageable pageable) {
+    public ResponseEntity<PageResponse<StudentAchievementResponse>> getClassAchievementFeed(@PathVariable Integer classId, Pageable pageable, HttpServletRequest request) {
         User current = authService.getCurrentUserEntity();
         RoleName role = current != null && current.getRole() != null ? current.getRole().getRolename() : null;
         if (role == null) {
@@ -197,6 +219,10 @@ public class ClassesController {
             classService.getMyClassById(classId);
         }
 
-        return ResponseEntity.ok(feedService.getFeedForClass(classId, pageable));
+        return ConditionalResponses.ok(
+                request,
+                feedService.getFeedVersion(classId, pageable),
+                () -> feedService.getFeedForClass(classId, pageable)
+        );
     }
 }
@@ -0,0 +1,76 @@
+package com.course.controller;
+
+import com.course.service.ResourceVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Enumeration;
+import java.util.function.Supplier;
+
+
+final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {
+    }
+
+    
+    static <T> ResponseEntity<T> ok(HttpServletRequest request, ResourceVersion version, Supplier<T> body) {
+        Instant lastModified = version.lastModified() != null
+                ? version.lastModified().atZone(ZoneId.systemDefault()).toInstant()
+                : null;
+
+        if (isNotModified(request, version.etag(), lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version.etag())
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(version.etag())
+                .cacheControl(REVALIDATE);
+        if (lastModified != null) {
+            ok.lastModified(lastModified);
+        }
+        return ok.body(body.get());
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, Instant lastModified) {
+        Enumeration<String> ifNoneMatch = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.hasMoreElements()) {
+            String current = opaqueTag(etag);
+            while (ifNoneMatch.hasMoreElements()) {
+                for (String candidate : ifNoneMatch.nextElement().split(",")) {
+                    String tag = candidate.trim();
+                    if ("*".equals(tag) || current.equals(opaqueTag(tag))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        
+        if (lastModified == null) {
+            return false;
+        }
+        long since;
+        try {
+            since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return since >= 0 && lastModified.toEpochMilli() / 1000 * 1000 <= since;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -1,8 +1,12 @@
 package com.course.controller;
 
+import com.course.dto.course.CourseCloneRequest;
+import com.course.dto.course.CourseCloneResponse;
 import com.course.dto.course.CourseResponse;
 import com.course.dto.course.CourseUpsertRequest;
+import com.course.service.CourseCloneService;
 import com.course.service.CourseService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,6 +22,7 @@ import java.util.List;
 public class CoursesController {
 
     private final CourseService courseService;
+    private final CourseCloneService courseCloneService;
 
     @PostMapping
     @PreAuthorize("hasRole('METHODIST')")
@@ -27,14 +32,14 @@ public class CoursesController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('METHODIST')")
-    public ResponseEntity<CourseResponse> getById(@PathVariable Integer id) {
-        return ResponseEntity.ok(courseService.getById(id));
+    public ResponseEntity<CourseResponse> getById(@PathVariable Integer id, HttpServletRequest request) {
+        return ConditionalResponses.ok(request, courseService.getByIdVersion(id), () -> courseService.getById(id));
     }
 
     @GetMapping
     @PreAuthorize("hasRole('METHODIST')")
-    public ResponseEntity<List<CourseResponse>> getAll() {
-        return ResponseEntity.ok(courseService.getAll());
+    public ResponseEntity<List<CourseResponse>> getAll(HttpServletRequest request) {
+        return ConditionalResponses.ok(request, courseService.getAllVersion(), courseService::getAll);
     }
 
     @PutMapping("/{id}")
@@ -43,6 +48,13 @@ public class CoursesController {
         return ResponseEntity.ok(courseService.update(id, dto));
     }
 
+    @PostMapping("/{id}/clone")
+    @PreAuthorize("hasRole('METHODIST')")
+    public ResponseEntity<CourseCloneResponse> cloneCourse(@PathVariable Integer id,
+                                                           @Valid @RequestBody(required = false) CourseCloneRequest dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(courseCloneService.cloneCourse(id, dto));
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('METHODIST')")
     public ResponseEntity<Void> delete(@PathVariable Integer id) {
@@ -1,5 +1,7 @@
 package com.course.controller;
 
+import com.course.dto.classroom.ClassJoinRequestBulkRequest;
+import com.course.dto.classroom.ClassJoinRequestBulkResponse;
 import com.course.dto.classroom.ClassJoinRequestByCodeRequest;
 import com.course.dto.classroom.ClassJoinRequestResponse;
 import com.course.dto.user.UserResponse;
@@ -39,6 +41,20 @@ public class JoinRequestsController {
         return ResponseEntity.ok(joinRequestService.approve(classId, requestId));
     }
 
+    @PostMapping("/bulk/approve")
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
+    public ResponseEntity<ClassJoinRequestBulkResponse> approveBulk(@RequestParam Integer classId,
+                                                                    @Valid @RequestBody ClassJoinRequestBulkRequest dto) {
+        return ResponseEntity.ok(joinRequestService.approveBulk(classId, dto));
+    }
+
+    @PostMapping("/bulk/reject")
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
+    public ResponseEntity<ClassJoinRequestBulkResponse> rejectBulk(@RequestParam Integer classId,
+                                                                   @Valid @RequestBody ClassJoinRequestBulkRequest dto) {
+        return ResponseEntity.ok(joinRequestService.rejectBulk(classId, dto));
+    }
+
     @DeleteMapping("/{requestId}")
     @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
     public ResponseEntity<Void> delete(@PathVariable Integer requestId, @RequestParam Integer classId) {
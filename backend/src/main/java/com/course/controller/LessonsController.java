@@ -6,6 +6,7 @@ import com.course.dto.lesson.LessonUpdateRequest;
 import com.course.dto.lesson.LessonUpsertForm;
 import com.course.service.LessonPresentationSlideService;
 import com.course.service.LessonService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -39,14 +41,14 @@ public class LessonsController {
 
     @GetMapping("/courses/{courseId}/lessons")
     @PreAuthorize("hasAnyRole('ADMIN','TEACHER','METHODIST','STUDENT')")
-    public ResponseEntity<List<LessonResponse>> listByCourse(@PathVariable Integer courseId) {
-        return ResponseEntity.ok(lessonService.listByCourse(courseId));
+    public ResponseEntity<List<LessonResponse>> listByCourse(@PathVariable Integer courseId, HttpServletRequest request) {
+        return ConditionalResponses.ok(request, lessonService.listByCourseVersion(courseId), () -> lessonService.listByCourse(courseId));
     }
 
     @GetMapping("/lessons/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','TEACHER','METHODIST','STUDENT')")
-    public ResponseEntity<LessonResponse> getById(@PathVariable Integer id) {
-        return ResponseEntity.ok(lessonService.getById(id));
+    public ResponseEntity<LessonResponse> getById(@PathVariable Integer id, HttpServletRequest request) {
+        return ConditionalResponses.ok(request, lessonService.getByIdVersion(id), () -> lessonService.getById(id));
     }
 
     @PutMapping(value = "/lessons/{id}", consumes = {"application/json"})
@@ -103,7 +105,7 @@ public class LessonsController {
 
     @GetMapping(value = "/lessons/{id}/presentation/pages/{page}", produces = MediaType.IMAGE_PNG_VALUE)
     @PreAuthorize("hasAnyRole('ADMIN','TEACHER','METHODIST','STUDENT')")
-    public ResponseEntity<byte[]> getPresentationPage(
+    public CompletableFuture<ResponseEntity<byte[]>> getPresentationPage(
             @PathVariable Integer id,
             @PathVariable int page,
             @RequestParam(name = "dpi", required = false) Integer dpi
@@ -17,6 +17,7 @@ import com.course.dto.user.UserResponse;
 import com.course.entity.User;
 import com.course.exception.ResourceNotFoundException;
 import com.course.service.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/me")
@@ -44,6 +46,7 @@ public class MeController {
     private final StatisticsService statisticsService;
     private final StudentAchievementService studentAchievementService;
     private final MyAchievementsService myAchievementsService;
+    private final BlockingWorkOffloader blockingWorkOffloader;
 
     
 
@@ -119,8 +122,12 @@ public class MeController {
 
     @GetMapping("/courses/{courseId}/page")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<StudentCoursePageResponse> getCoursePage(@PathVariable Integer courseId) {
-        return ResponseEntity.ok(studentCoursePageService.getCoursePage(courseId));
+    public ResponseEntity<StudentCoursePageResponse> getCoursePage(@PathVariable Integer courseId, HttpServletRequest request) {
+        return ConditionalResponses.ok(
+                request,
+                studentCoursePageService.getCoursePageVersion(courseId),
+                () -> studentCoursePageService.getCoursePage(courseId)
+        );
     }
 
     @GetMapping("/courses/{courseId}/lessons")
@@ -150,9 +157,9 @@ public class MeController {
 
     @PostMapping("/courses/{courseId}/completion-email")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<Void> sendCompletionEmail(@PathVariable Integer courseId) {
-        courseCompletionEmailService.sendMyCompletionEmail(courseId);
-        return ResponseEntity.ok().build();
+    public CompletableFuture<ResponseEntity<Void>> sendCompletionEmail(@PathVariable Integer courseId) {
+        return blockingWorkOffloader.mail(() -> courseCompletionEmailService.sendMyCompletionEmail(courseId))
+                .thenApply(ignored -> ResponseEntity.ok().<Void>build());
     }
 
     
@@ -0,0 +1,52 @@
+package com.course.controller;
+
+import com.course.dto.search.SearchResultsResponse;
+import com.course.dto.search.SlideSearchResultsResponse;
+import com.course.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Поиск", description = "Полнотекстовый поиск по курсам, урокам, активностям и вопросам")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Operation(
+            summary = "Полнотекстовый поиск",
+            description = "Ищет по курсам, урокам, активностям и вопросам с учетом русской морфологии. Результаты ранжированы и ограничены тем, что доступно текущему пользователю. Параметр types: COURSE, LESSON, ACTIVITY, QUESTION."
+    )
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN','METHODIST','TEACHER','STUDENT')")
+    public ResponseEntity<SearchResultsResponse> search(@RequestParam String q,
+                                                        @RequestParam(required = false) List<String> types,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(q, types, page, size));
+    }
+
+    @Operation(
+            summary = "Поиск по слайдам презентаций",
+            description = "Ищет по тексту страниц PDF-презентаций уроков и возвращает пары (урок, страница) с фрагментом текста, чтобы сразу открыть нужный слайд. Можно ограничить поиск курсом или уроком."
+    )
+    @GetMapping("/slides")
+    @PreAuthorize("hasAnyRole('ADMIN','METHODIST','TEACHER','STUDENT')")
+    public ResponseEntity<SlideSearchResultsResponse> searchSlides(@RequestParam String q,
+                                                                   @RequestParam(required = false) Integer courseId,
+                                                                   @RequestParam(required = false) Integer lessonId,
+                                                                   @RequestParam(defaultValue = "0") int page,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.searchSlides(q, courseId, lessonId, page, size));
+    }
+}
@@ -1,8 +1,10 @@
 package com.course.controller;
 
+import com.course.dto.statistics.ClassGradebookResponse;
 import com.course.dto.statistics.StudentTopicStatsResponse;
 import com.course.dto.statistics.TeacherStatsResponse;
 import com.course.dto.statistics.TopicStatsResponse;
+import com.course.service.GradebookService;
 import com.course.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -10,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -20,6 +23,7 @@ import java.util.List;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final GradebookService gradebookService;
 
     
 
@@ -29,6 +33,25 @@ public class StatisticsController {
         return ResponseEntity.ok(statisticsService.getClassTopicStatsForTeacher(classId));
     }
 
+    @GetMapping("/classes/{classId}/gradebook")
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST','ADMIN')")
+    public ResponseEntity<ClassGradebookResponse> classGradebook(@PathVariable Integer classId) {
+        return ResponseEntity.ok(gradebookService.getClassGradebook(classId));
+    }
+
+    @GetMapping("/classes/{classId}/gradebook/export/csv")
+    @PreAuthorize("hasAnyRole('TEACHER','METHODIST','ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportClassGradebookCsv(@PathVariable Integer classId) {
+        GradebookService.CsvExport export = gradebookService.prepareCsvExport(classId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + export.filename());
+
+        StreamingResponseBody body = out -> gradebookService.writeCsv(export, out);
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
     @GetMapping("/students/{studentId}/topics")
     @PreAuthorize("hasAnyRole('TEACHER','METHODIST')")
     public ResponseEntity<List<StudentTopicStatsResponse>> studentTopics(
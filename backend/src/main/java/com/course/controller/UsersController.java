@@ -1,9 +1,12 @@
 package com.course.controller;
 import com.course.dto.auth.ChangeAdminPasswordRequest;
 import com.course.dto.auth.UserRegisterRequest;
+import com.course.dto.common.CountMode;
+import com.course.dto.common.CursorPageResponse;
 import com.course.dto.common.PageResponse;
 import com.course.dto.user.UserResponse;
 import com.course.dto.user.UserUpsertRequest;
+import com.course.entity.RoleName;
 import com.course.entity.User;
 import com.course.exception.ForbiddenOperationException;
 import com.course.service.AuthService;
@@ -173,12 +176,30 @@ public class UsersController {
         return ResponseEntity.ok(userService.getUserByName(name));
     }
 
+    @Operation(
+            summary = "Справочник пользователей",
+            description = "Постраничный (keyset) список пользователей, отсортированный по имени. Фильтры: роль, признак удаления, префикс имени или email. Для следующей страницы передайте nextCursor из ответа. count=ESTIMATED возвращает оценку количества по плану запроса, EXACT — точный COUNT."
+    )
+    @GetMapping("/directory")
+    @PreAuthorize("hasAnyRole('ADMIN','METHODIST')")
+    public ResponseEntity<CursorPageResponse<UserResponse>> getDirectory(
+            @RequestParam(required = false) RoleName role,
+            @RequestParam(required = false) Boolean deleted,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "NONE") CountMode count) {
+        return ResponseEntity.ok(userService.getDirectory(role, deleted, q, cursor, size, count));
+    }
+
+    @Operation(summary = "Все пользователи", deprecated = true, description = "Используйте /api/users/directory")
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','METHODIST')")
     public ResponseEntity<List<UserResponse>> getAllUsers() {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    @Operation(summary = "Пользователи постранично", deprecated = true, description = "Используйте /api/users/directory")
     @GetMapping("/paginated")
     @PreAuthorize("hasAnyRole('ADMIN','METHODIST')")
     public ResponseEntity<PageResponse<UserResponse>> getAllUsersPaginated(Pageable pageable) {
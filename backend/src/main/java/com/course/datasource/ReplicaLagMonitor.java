@@ -0,0 +1,71 @@
+package com.course.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    
+    private static final String LAG_SQL = """
+            SELECT CASE
+                     WHEN NOT pg_is_in_recovery() THEN 0
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final HikariDataSource replica;
+    private final long maxLagSeconds;
+
+    private volatile boolean usable = false;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(HikariDataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public HikariDataSource replicaDataSource() {
+        return replica;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.lag-check-interval-millis:5000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try (Connection c = replica.getConnection();
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery(LAG_SQL)) {
+            lagSeconds = rs.next() ? rs.getDouble(1) : Double.NaN;
+            usable = !Double.isNaN(lagSeconds) && lagSeconds <= maxLagSeconds;
+        } catch (SQLException ex) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica check failed, routing reads to primary: {}", ex.getMessage());
+            }
+            return;
+        }
+
+        if (wasUsable && !usable) {
+            log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lagSeconds, maxLagSeconds);
+        } else if (!wasUsable && usable) {
+            log.info("Replica is in sync (lag {}s), routing read-only transactions to it", lagSeconds);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.course.dto.activity;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ActivityQuestionBulkItemRequest extends ActivityQuestionUpsertRequest {
+
+    
+    private Integer id;
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 public class ActivityQuestionResponse {
@@ -25,6 +26,15 @@ public class ActivityQuestionResponse {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String correctTextAnswer;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> acceptedTextAnswers;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String textMatchMode;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer textMaxTypos;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -126,6 +136,30 @@ public class ActivityQuestionResponse {
         this.correctTextAnswer = correctTextAnswer;
     }
 
+    public List<String> getAcceptedTextAnswers() {
+        return this.acceptedTextAnswers;
+    }
+
+    public void setAcceptedTextAnswers(List<String> acceptedTextAnswers) {
+        this.acceptedTextAnswers = acceptedTextAnswers;
+    }
+
+    public String getTextMatchMode() {
+        return this.textMatchMode;
+    }
+
+    public void setTextMatchMode(String textMatchMode) {
+        this.textMatchMode = textMatchMode;
+    }
+
+    public Integer getTextMaxTypos() {
+        return this.textMaxTypos;
+    }
+
+    public void setTextMaxTypos(Integer textMaxTypos) {
+        this.textMaxTypos = textMaxTypos;
+    }
+
     public LocalDateTime getCreatedAt() {
         return this.createdAt;
     }
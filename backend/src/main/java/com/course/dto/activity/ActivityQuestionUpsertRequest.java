@@ -9,6 +9,8 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.util.List;
+
 
 @Data
 public class ActivityQuestionUpsertRequest {
@@ -54,14 +56,26 @@ public class ActivityQuestionUpsertRequest {
     private String correctTextAnswer;
 
     
-    @AssertTrue(message = "For SINGLE_CHOICE: options 1-4 and correctOption are required; correctTextAnswer must be null")
+    @Size(max = 20, message = "acceptedTextAnswers must contain at most 20 items")
+    private List<String> acceptedTextAnswers;
+
+    @Pattern(regexp = "EXACT|NORMALIZED|FUZZY", message = "textMatchMode must be one of: EXACT, NORMALIZED, FUZZY")
+    private String textMatchMode;
+
+    @Min(value = 0, message = "textMaxTypos must be between 0 and 3")
+    @Max(value = 3, message = "textMaxTypos must be between 0 and 3")
+    private Integer textMaxTypos;
+
+    
+    @AssertTrue(message = "For SINGLE_CHOICE: options 1-4 and correctOption are required; correctTextAnswer and text matching settings must be null")
     private boolean isSingleChoiceValid() {
         if (!"SINGLE_CHOICE".equals(questionType)) {
             return true;
         }
         return notBlank(option1) && notBlank(option2) && notBlank(option3) && notBlank(option4)
                 && correctOption != null
-                && correctTextAnswer == null;
+                && correctTextAnswer == null
+                && noTextMatching();
     }
 
     @AssertTrue(message = "For TEXT: correctTextAnswer is required; options and correctOption must be null")
@@ -74,13 +88,20 @@ public class ActivityQuestionUpsertRequest {
                 && correctOption == null;
     }
 
-    @AssertTrue(message = "For OPEN: options and correctOption must be null")
+    @AssertTrue(message = "For OPEN: options, correctOption and text matching settings must be null")
     private boolean isOpenValid() {
         if (!"OPEN".equals(questionType)) {
             return true;
         }
         return option1 == null && option2 == null && option3 == null && option4 == null
-                && correctOption == null;
+                && correctOption == null
+                && noTextMatching();
+    }
+
+    private boolean noTextMatching() {
+        return (acceptedTextAnswers == null || acceptedTextAnswers.isEmpty())
+                && textMatchMode == null
+                && textMaxTypos == null;
     }
 
     private static boolean notBlank(String s) {
@@ -169,4 +190,28 @@ public class ActivityQuestionUpsertRequest {
         this.correctTextAnswer = correctTextAnswer;
     }
 
+    public List<String> getAcceptedTextAnswers() {
+        return this.acceptedTextAnswers;
+    }
+
+    public void setAcceptedTextAnswers(List<String> acceptedTextAnswers) {
+        this.acceptedTextAnswers = acceptedTextAnswers;
+    }
+
+    public String getTextMatchMode() {
+        return this.textMatchMode;
+    }
+
+    public void setTextMatchMode(String textMatchMode) {
+        this.textMatchMode = textMatchMode;
+    }
+
+    public Integer getTextMaxTypos() {
+        return this.textMaxTypos;
+    }
+
+    public void setTextMaxTypos(Integer textMaxTypos) {
+        this.textMaxTypos = textMaxTypos;
+    }
+
 }
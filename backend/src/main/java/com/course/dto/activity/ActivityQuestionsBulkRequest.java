@@ -0,0 +1,16 @@
+package com.course.dto.activity;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ActivityQuestionsBulkRequest {
+
+    @NotEmpty(message = "questions must not be empty")
+    @Size(max = 200, message = "At most 200 questions can be saved at once")
+    private List<@Valid ActivityQuestionBulkItemRequest> questions;
+}
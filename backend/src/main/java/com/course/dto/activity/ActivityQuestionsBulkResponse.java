@@ -0,0 +1,19 @@
+package com.course.dto.activity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityQuestionsBulkResponse {
+    private Integer activityId;
+    private Integer inserted;
+    private Integer updated;
+    private Integer deleted;
+    private Integer unchanged;
+    private List<ActivityQuestionResponse> questions;
+}
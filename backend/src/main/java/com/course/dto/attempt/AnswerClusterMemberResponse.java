@@ -0,0 +1,19 @@
+package com.course.dto.attempt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerClusterMemberResponse {
+    private Integer attemptId;
+    private Integer studentId;
+    private String studentName;
+    private String className;
+    private String textAnswer;
+    private LocalDateTime submittedAt;
+}
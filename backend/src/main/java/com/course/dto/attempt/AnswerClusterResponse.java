@@ -0,0 +1,17 @@
+package com.course.dto.attempt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerClusterResponse {
+    private String clusterKey;
+    private String normalizedText;
+    private Integer size;
+    private List<AnswerClusterMemberResponse> members;
+}
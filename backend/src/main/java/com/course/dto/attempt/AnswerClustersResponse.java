@@ -0,0 +1,19 @@
+package com.course.dto.attempt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerClustersResponse {
+    private Integer activityId;
+    private Integer questionId;
+    private String questionText;
+    private Integer maxPoints;
+    private Integer pendingAnswers;
+    private List<AnswerClusterResponse> clusters;
+}
@@ -0,0 +1,26 @@
+package com.course.dto.attempt;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGradeItemRequest {
+
+    @NotNull
+    private Integer attemptId;
+
+    @NotNull
+    @Min(value = 0, message = "pointsAwarded must be >= 0")
+    @Max(value = 1000000, message = "pointsAwarded is too large")
+    private Integer pointsAwarded;
+
+    @Size(max = 2048, message = "feedback must be <= 2048 characters")
+    private String feedback;
+}
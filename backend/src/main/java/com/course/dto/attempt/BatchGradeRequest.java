@@ -0,0 +1,16 @@
+package com.course.dto.attempt;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchGradeRequest {
+
+    @NotEmpty(message = "grades must not be empty")
+    @Size(max = 500, message = "At most 500 attempts can be graded at once")
+    private List<@Valid BatchGradeItemRequest> grades;
+}
@@ -0,0 +1,17 @@
+package com.course.dto.attempt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGradeResponse {
+    private Integer activityId;
+    private Integer questionId;
+    private Integer gradedCount;
+    private List<BatchGradeResultResponse> results;
+}
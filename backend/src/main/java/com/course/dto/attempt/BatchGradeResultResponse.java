@@ -0,0 +1,16 @@
+package com.course.dto.attempt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGradeResultResponse {
+    private Integer attemptId;
+    private Integer studentId;
+    private Integer score;
+    private Integer maxScore;
+    private String status;
+}
@@ -0,0 +1,19 @@
+package com.course.dto.attempt;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class ClusterGradeRequest {
+
+    @NotNull
+    @Min(value = 0, message = "pointsAwarded must be >= 0")
+    @Max(value = 1000000, message = "pointsAwarded is too large")
+    private Integer pointsAwarded;
+
+    @Size(max = 2048, message = "feedback must be <= 2048 characters")
+    private String feedback;
+}
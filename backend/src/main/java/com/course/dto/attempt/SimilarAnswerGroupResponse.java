@@ -0,0 +1,17 @@
+package com.course.dto.attempt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarAnswerGroupResponse {
+    private Integer size;
+    private Double minSimilarity;
+    private Double maxSimilarity;
+    private List<AnswerClusterMemberResponse> members;
+}
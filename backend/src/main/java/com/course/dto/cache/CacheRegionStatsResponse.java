@@ -0,0 +1,13 @@
+package com.course.dto.cache;
+
+import lombok.Data;
+
+@Data
+public class CacheRegionStatsResponse {
+    private String region;
+    private Long hitCount;
+    private Long missCount;
+    private Long putCount;
+    private Double hitRatio;
+    private Long elementCountInMemory;
+}
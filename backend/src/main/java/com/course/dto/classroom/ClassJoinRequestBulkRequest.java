@@ -0,0 +1,20 @@
+package com.course.dto.classroom;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassJoinRequestBulkRequest {
+
+    @Size(max = 500, message = "At most 500 request ids per call")
+    private List<Integer> requestIds;
+
+    
+    private boolean allPending;
+}
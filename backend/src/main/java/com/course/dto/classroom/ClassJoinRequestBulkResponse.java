@@ -0,0 +1,24 @@
+package com.course.dto.classroom;
+
+import com.course.dto.user.UserResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassJoinRequestBulkResponse {
+
+    private List<UserResponse> approvedStudents = new ArrayList<>();
+
+    private List<Integer> processedRequestIds = new ArrayList<>();
+
+    
+    private List<Integer> skippedRequestIds = new ArrayList<>();
+
+    private List<Integer> notFoundRequestIds = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package com.course.dto.classroom;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassLeaderboardResponse {
+    private Integer classId;
+    private Integer totalStudents;
+    private List<LeaderboardEntryResponse> top;
+    private LeaderboardEntryResponse me;
+}
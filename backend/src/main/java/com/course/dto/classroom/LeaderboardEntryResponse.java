@@ -0,0 +1,15 @@
+package com.course.dto.classroom;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryResponse {
+    private Integer rank;
+    private Integer studentId;
+    private String studentName;
+    private Long weightedScore;
+}
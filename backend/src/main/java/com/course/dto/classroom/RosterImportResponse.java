@@ -0,0 +1,43 @@
+package com.course.dto.classroom;
+
+import com.course.dto.user.UserResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterImportResponse {
+
+    private int totalRows;
+
+    private int enrolledCount;
+
+    private int alreadyEnrolledCount;
+
+    private List<CreatedStudent> createdStudents = new ArrayList<>();
+
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreatedStudent {
+        private UserResponse user;
+
+        
+        private String temporaryPassword;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+}
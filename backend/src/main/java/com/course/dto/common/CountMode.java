@@ -0,0 +1,7 @@
+package com.course.dto.common;
+
+public enum CountMode {
+    NONE,
+    ESTIMATED,
+    EXACT
+}
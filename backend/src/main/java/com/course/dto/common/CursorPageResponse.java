@@ -0,0 +1,23 @@
+package com.course.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+
+    
+    private String nextCursor;
+    private boolean hasNext;
+
+    
+    private Long totalElements;
+    private boolean totalEstimated;
+}
@@ -0,0 +1,23 @@
+package com.course.dto.course;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseCloneRequest {
+
+    @Pattern(regexp = "^(?!\\s*$).+", message = "name must not be blank")
+    @Size(max = 127, message = "name must be at most 127 characters")
+    private String name;
+
+    @Pattern(regexp = "^(?!\\s*$).+", message = "description must not be blank")
+    @Size(max = 2048, message = "description must be at most 2048 characters")
+    private String description;
+
+    private Boolean copyPresentations;
+}
@@ -0,0 +1,18 @@
+package com.course.dto.course;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseCloneResponse {
+    private Integer sourceCourseId;
+    private CourseResponse course;
+    private Integer lessonCount;
+    private Integer activityCount;
+    private Integer questionCount;
+    private Integer achievementCount;
+    private Integer copiedFileCount;
+}
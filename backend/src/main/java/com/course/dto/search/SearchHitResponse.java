@@ -0,0 +1,21 @@
+package com.course.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitResponse {
+
+    
+    private String type;
+    private Integer id;
+    private String title;
+    private String snippet;
+    private Integer courseId;
+    private Integer lessonId;
+    private Integer activityId;
+    private double rank;
+}
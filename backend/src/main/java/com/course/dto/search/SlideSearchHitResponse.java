@@ -0,0 +1,17 @@
+package com.course.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlideSearchHitResponse {
+    private Integer lessonId;
+    private String lessonTitle;
+    private Integer courseId;
+    private int page;
+    private String snippet;
+    private double rank;
+}
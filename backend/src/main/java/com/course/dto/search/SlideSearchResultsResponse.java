@@ -0,0 +1,18 @@
+package com.course.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlideSearchResultsResponse {
+    private String query;
+    private List<SlideSearchHitResponse> hits;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
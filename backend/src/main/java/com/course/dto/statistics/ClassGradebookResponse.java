@@ -0,0 +1,20 @@
+package com.course.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassGradebookResponse {
+    private Integer classId;
+    private String className;
+    private Integer courseId;
+    private List<GradebookColumnResponse> columns;
+    private List<GradebookRowResponse> rows;
+    private Integer weightedMaxTotal;
+}
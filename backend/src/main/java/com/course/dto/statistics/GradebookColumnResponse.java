@@ -0,0 +1,17 @@
+package com.course.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradebookColumnResponse {
+    private Integer activityId;
+    private String title;
+    private String activityType;
+    private Integer lessonId;
+    private Integer weightMultiplier;
+    private Integer maxPoints;
+}
@@ -0,0 +1,20 @@
+package com.course.dto.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradebookRowResponse {
+    private Integer studentId;
+    private String studentName;
+    private List<Integer> best;
+    private List<Integer> latest;
+    private List<Integer> weighted;
+    private Integer weightedTotal;
+}
@@ -0,0 +1,57 @@
+package com.course.dto.user;
+
+import com.course.entity.RoleName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserProvisionRequest {
+
+    
+    @NotEmpty(message = "users must not be empty")
+    private List<UserRow> users;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UserRow {
+
+        @NotBlank(message = "Name cannot be blank")
+        @Size(min = 1, max = 63, message = "name must be between 1 and 63 characters")
+        private String name;
+
+        @NotBlank(message = "Email cannot be blank")
+        @Email(message = "Email should be valid")
+        @Size(min = 3, max = 127, message = "email must be between 3 and 127 characters")
+        private String email;
+
+        @Schema(description = "Пароль; если не указан, будет сгенерирован временный", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        @Size(min = 6, max = 127, message = "password must be between 6 and 127 characters")
+        private String password;
+
+        @Pattern(regexp = "^(?!\\s*$).+", message = "tgId must not be blank")
+        @Size(max = 127, message = "tgId must be at most 127 characters")
+        private String tgId;
+
+        @Schema(description = "Роль: METHODIST, TEACHER или STUDENT", example = "STUDENT")
+        @NotNull(message = "role is required")
+        private RoleName role;
+
+        @Schema(description = "ID методиста, к которому привязывается преподаватель (только для TEACHER)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        @Min(value = 1, message = "methodistId must be a positive integer")
+        private Integer methodistId;
+    }
+}
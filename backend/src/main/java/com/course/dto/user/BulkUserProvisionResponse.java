@@ -0,0 +1,42 @@
+package com.course.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserProvisionResponse {
+
+    private int totalRows;
+
+    private int createdCount;
+
+    private List<CreatedUser> created = new ArrayList<>();
+
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreatedUser {
+        private int row;
+        private UserResponse user;
+
+        
+        private String temporaryPassword;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String email;
+        private String message;
+    }
+}
@@ -7,10 +7,14 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "achievement")
 @Table(
         name = "achievements",
         uniqueConstraints = @UniqueConstraint(name = "uq_achievement_title_in_course", columnNames = {"course_id", "title"})
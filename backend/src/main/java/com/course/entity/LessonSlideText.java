@@ -0,0 +1,48 @@
+package com.course.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "lesson_slide_texts",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_lesson_slide_page", columnNames = {"lesson_id", "page_number"})
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LessonSlideText {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "lesson_id", nullable = false)
+    private Lesson lesson;
+
+    @Column(name = "page_number", nullable = false)
+    private Integer pageNumber;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "presentation_url", nullable = false, length = 512)
+    private String presentationUrl;
+
+    @Column(name = "extracted_at", nullable = false)
+    private LocalDateTime extractedAt;
+
+    @PrePersist
+    public void onCreate() {
+        if (extractedAt == null) {
+            extractedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.course.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "open_answer_signatures",
+        indexes = {
+                @Index(name = "idx_open_answer_signatures_question", columnList = "question_id")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenAnswerSignature {
+
+    @Id
+    @Column(name = "answer_id")
+    private Integer answerId;
+
+    @Column(name = "question_id", nullable = false)
+    private Integer questionId;
+
+    
+    @Column(name = "signature", nullable = false)
+    private byte[] signature;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -9,10 +9,14 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "test-question")
 @Table(
         name = "test_questions",
         uniqueConstraints = {
@@ -79,6 +83,21 @@ public class TestQuestion {
     @Size(max = 512)
     private String correctTextAnswer;
 
+    
+    @Column(name = "accepted_text_answers", length = 4096)
+    @Size(max = 4096)
+    private String acceptedTextAnswers;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "text_match_mode", length = 16, nullable = false)
+    private TextMatchMode textMatchMode = TextMatchMode.EXACT;
+
+    
+    @Column(name = "text_max_typos")
+    @Min(0)
+    @Max(3)
+    private Integer textMaxTypos;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -179,6 +198,30 @@ public class TestQuestion {
         this.correctTextAnswer = correctTextAnswer;
     }
 
+    public String getAcceptedTextAnswers() {
+        return this.acceptedTextAnswers;
+    }
+
+    public void setAcceptedTextAnswers(String acceptedTextAnswers) {
+        this.acceptedTextAnswers = acceptedTextAnswers;
+    }
+
+    public TextMatchMode getTextMatchMode() {
+        return this.textMatchMode;
+    }
+
+    public void setTextMatchMode(TextMatchMode textMatchMode) {
+        this.textMatchMode = textMatchMode;
+    }
+
+    public Integer getTextMaxTypos() {
+        return this.textMaxTypos;
+    }
+
+    public void setTextMaxTypos(Integer textMaxTypos) {
+        this.textMaxTypos = textMaxTypos;
+    }
+
     public LocalDateTime getCreatedAt() {
         return this.createdAt;
     }
@@ -0,0 +1,11 @@
+package com.course.entity;
+
+
+public enum TextMatchMode {
+    
+    EXACT,
+    
+    NORMALIZED,
+    
+    FUZZY
+}
@@ -63,6 +63,7 @@ public class GlobalExceptionHandler {
 
             Map.entry(DuplicateResourceException.class, "Такая запись уже существует."),
             Map.entry(ForbiddenOperationException.class, "Операция запрещена."),
+            Map.entry(ServiceBusyException.class, "Сервер перегружен. Повторите попытку позже."),
             Map.entry(IllegalArgumentException.class, "Некорректные данные.")
     );
 
@@ -84,6 +85,7 @@ public class GlobalExceptionHandler {
             case FORBIDDEN -> "Запрещено";
             case NOT_FOUND -> "Не найдено";
             case CONFLICT -> "Конфликт";
+            case SERVICE_UNAVAILABLE -> "Сервис недоступен";
             case INTERNAL_SERVER_ERROR -> "Ошибка сервера";
             default -> "Ошибка";
         };
@@ -316,6 +318,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceBusy(ServiceBusyException ex,
+                                                              HttpServletRequest request) {
+        ApiErrorResponse body = ApiErrorResponse.builder()
+                .timestamp(OffsetDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(ruReasonPhrase(HttpStatus.SERVICE_UNAVAILABLE))
+                .message(resolveRuMessage(ex, "Сервер перегружен. Повторите попытку позже."))
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiErrorResponse> handleAny(Exception ex,
                                                       HttpServletRequest request) {
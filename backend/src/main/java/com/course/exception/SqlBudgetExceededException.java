@@ -0,0 +1,8 @@
+package com.course.exception;
+
+
+public class SqlBudgetExceededException extends RuntimeException {
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,109 @@
+package com.course.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+
+public class CountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    
+    @Override
+    public void close() {
+        DataSource target = obtainTargetDataSource();
+        while (target instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            target = delegating.getTargetDataSource();
+        }
+        if (target instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to close data source", e);
+            }
+        }
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(target));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = CountingDataSource.invoke(target, method, args);
+            String name = method.getName();
+            Class<?> type;
+            String sql = null;
+            if (result instanceof CallableStatement && name.equals("prepareCall")) {
+                type = CallableStatement.class;
+                sql = (String) args[0];
+            } else if (result instanceof PreparedStatement && name.equals("prepareStatement")) {
+                type = PreparedStatement.class;
+                sql = (String) args[0];
+            } else if (result instanceof Statement && name.equals("createStatement")) {
+                type = Statement.class;
+            } else {
+                return result;
+            }
+            return Proxy.newProxyInstance(
+                    CountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(result, sql));
+        }
+    }
+
+    private record StatementHandler(Object target, String preparedSql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return CountingDataSource.invoke(target, method, args);
+            }
+            String sql = preparedSql;
+            if (sql == null && args != null && args.length > 0 && args[0] instanceof String s) {
+                sql = s;
+            }
+            long start = System.nanoTime();
+            try {
+                return CountingDataSource.invoke(target, method, args);
+            } finally {
+                SqlStatementCounter.record(sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.course.metrics;
+
+import com.course.config.SqlBudgetProperties;
+import com.course.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetProperties budgetProperties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !budgetProperties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            ContentCachingResponseWrapper cached = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            if (cached != null) {
+                cached.copyBodyToResponse();
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = (budgetProperties.isDebugHeader() || budgetProperties.isFailOnExceed())
+                && !isUnbuffered(request)
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        SqlStatementCounter.Stats stats;
+        boolean completed = false;
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+            completed = true;
+        } finally {
+            stats = SqlStatementCounter.stop();
+            if (!completed && wrapper != null && !isAsyncStarted(request)) {
+                wrapper.copyBodyToResponse();
+            }
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        record(request.getMethod(), uri, stats);
+        String exceeded = checkBudget(request.getMethod() + " " + uri, stats);
+
+        if (wrapper == null) {
+            return;
+        }
+        boolean async = isAsyncStarted(request);
+        
+        if (exceeded != null && budgetProperties.isFailOnExceed() && !async) {
+            wrapper.resetBuffer();
+            throw new SqlBudgetExceededException(exceeded);
+        }
+        if (budgetProperties.isDebugHeader()) {
+            wrapper.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            wrapper.setHeader(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getNanos())));
+        }
+        if (!async) {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    
+    private boolean isUnbuffered(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return budgetProperties.getUnbufferedPaths().stream().anyMatch(p -> PATH_MATCHER.match(p, uri));
+    }
+
+    private void record(String method, String uri, SqlStatementCounter.Stats stats) {
+        DistributionSummary.builder("app.http.sql.statements")
+                .description("SQL statements issued per API request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("app.http.sql.time")
+                .description("Time spent executing SQL per API request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private String checkBudget(String endpoint, SqlStatementCounter.Stats stats) {
+        int budget = budgetProperties.budgetFor(endpoint);
+        if (stats.getStatements() <= budget) {
+            return null;
+        }
+
+        Counter.builder("app.http.sql.budget.exceeded")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+
+        String top = stats.topStatements(budgetProperties.getOffenderSamples()).stream()
+                .map(e -> e.getValue() + "x " + e.getKey())
+                .collect(Collectors.joining("\n  "));
+        String message = endpoint + " issued " + stats.getStatements() + " SQL statements (budget " + budget
+                + ", " + TimeUnit.NANOSECONDS.toMillis(stats.getNanos()) + " ms)";
+        log.warn("{}; most repeated:\n  {}", message, top);
+        return message;
+    }
+}
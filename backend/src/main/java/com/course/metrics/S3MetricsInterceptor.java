@@ -0,0 +1,52 @@
+package com.course.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+
+@RequiredArgsConstructor
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Timer.Sample> SAMPLE = new ExecutionAttribute<>("app.s3.sample");
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attributes) {
+        attributes.putAttribute(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+        stop(attributes, "SUCCESS", String.valueOf(context.httpResponse().statusCode()));
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attributes) {
+        String status = context.httpResponse()
+                .map(r -> String.valueOf(r.statusCode()))
+                .orElse("IO_ERROR");
+        stop(attributes, "FAILURE", status);
+    }
+
+    private void stop(ExecutionAttributes attributes, String outcome, String status) {
+        Timer.Sample sample = attributes.getAttribute(SAMPLE);
+        if (sample == null) {
+            return;
+        }
+        String operation = attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        sample.stop(Timer.builder("app.s3.requests")
+                .description("S3 client calls")
+                .tag("operation", operation == null ? "unknown" : operation)
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,73 @@
+package com.course.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+public final class SqlStatementCounter {
+
+    private static final int MAX_SQL_LENGTH = 240;
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static final class Stats {
+        private int statements;
+        private long nanos;
+        private final Map<String, Integer> bySql = new LinkedHashMap<>();
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        
+        public List<Map.Entry<String, Integer>> topStatements(int limit) {
+            return bySql.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(limit)
+                    .toList();
+        }
+
+        private void add(String sql, long elapsedNanos) {
+            statements++;
+            nanos += elapsedNanos;
+            if (sql == null) {
+                return;
+            }
+            String key = sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) : sql;
+            if (bySql.size() < MAX_DISTINCT_STATEMENTS || bySql.containsKey(key)) {
+                bySql.merge(key, 1, Integer::sum);
+            }
+        }
+    }
+
+    public static void start() {
+        CURRENT.set(new Stats());
+    }
+
+    public static Stats stop() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats == null ? new Stats() : stats;
+    }
+
+    public static int current() {
+        Stats stats = CURRENT.get();
+        return stats == null ? 0 : stats.statements;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.add(sql, elapsedNanos);
+        }
+    }
+}
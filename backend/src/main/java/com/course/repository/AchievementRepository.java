@@ -1,13 +1,17 @@
 package com.course.repository;
 
 import com.course.entity.Achievement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface AchievementRepository extends JpaRepository<Achievement, Integer> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Achievement> findAllByCourse_IdOrderByCreatedAtDesc(Integer courseId);
 
     boolean existsByCourse_IdAndTitleIgnoreCase(Integer courseId, String title);
@@ -0,0 +1,9 @@
+package com.course.repository;
+
+import java.time.LocalDateTime;
+
+
+public interface AttemptDeadlineProjection {
+    Integer getAttemptId();
+    LocalDateTime getDeadline();
+}
@@ -17,4 +17,9 @@ public interface ClassAchievementFeedRepository extends JpaRepository<ClassAchie
             "where f.studyClass.id = :classId " +
             "order by f.createdAt desc")
     List<ClassAchievementFeed> findFeedByClassId(@Param("classId") Integer classId);
+
+    @Query("select count(f) as rowCount, max(f.id) as maxId, max(a.updatedAt) as lastUpdated " +
+            "from ClassAchievementFeed f join f.achievement a " +
+            "where f.studyClass.id = :classId")
+    VersionStampProjection stampByClassId(@Param("classId") Integer classId);
 }
@@ -3,6 +3,7 @@ package com.course.repository;
 import com.course.entity.ClassJoinRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,5 +13,7 @@ public interface ClassJoinRequestRepository extends JpaRepository<ClassJoinReque
 
     Optional<ClassJoinRequest> findByIdAndStudyClassId(Integer id, Integer classId);
 
+    List<ClassJoinRequest> findAllByStudyClassIdAndIdIn(Integer classId, Collection<Integer> ids);
+
     boolean existsByStudyClassIdAndEmailIgnoreCase(Integer classId, String email);
 }
@@ -20,6 +20,14 @@ public interface ClassOpenedLessonRepository extends JpaRepository<ClassOpenedLe
             """)
     boolean isLessonOpenedForStudent(@Param("studentId") Integer studentId, @Param("lessonId") Integer lessonId);
 
+    @Query("""
+            SELECT DISTINCT col.lesson.id
+            FROM ClassOpenedLesson col
+            JOIN ClassStudent cs ON cs.studyClass.id = col.studyClass.id
+            WHERE cs.student.id = :studentId
+            """)
+    List<Integer> findOpenedLessonIdsForStudent(@Param("studentId") Integer studentId);
+
     @Query("""
             SELECT DISTINCT col.lesson.id
             FROM ClassOpenedLesson col
@@ -20,6 +20,14 @@ public interface ClassOpenedTestRepository extends JpaRepository<ClassOpenedTest
             """)
     boolean isTestOpenedForStudent(@Param("studentId") Integer studentId, @Param("testId") Integer testId);
 
+    @Query("""
+            SELECT DISTINCT cot.test.id
+            FROM ClassOpenedTest cot
+            JOIN ClassStudent cs ON cs.studyClass.id = cot.studyClass.id
+            WHERE cs.student.id = :studentId
+            """)
+    List<Integer> findOpenedTestIdsForStudent(@Param("studentId") Integer studentId);
+
     @Query("""
             SELECT DISTINCT cot.test.id
             FROM ClassOpenedTest cot
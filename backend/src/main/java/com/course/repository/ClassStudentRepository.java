@@ -3,7 +3,9 @@ package com.course.repository;
 import com.course.entity.ClassStudent;
 import com.course.entity.StudyClass;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
@@ -11,6 +13,8 @@ import java.util.List;
 import java.util.Optional;
 
 import com.course.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 public interface ClassStudentRepository extends JpaRepository<ClassStudent, Integer> {
     boolean existsByStudyClassIdAndStudentId(Integer classId, Integer studentId);
@@ -20,12 +24,31 @@ public interface ClassStudentRepository extends JpaRepository<ClassStudent, Inte
     @Query(value = "SELECT enroll_user_to_class(:userId, :classId)", nativeQuery = true)
     void enrollUserToClass(@Param("userId") Integer userId, @Param("classId") Integer classId);
 
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "class_students"))
+    @Query(value = """
+            INSERT INTO class_students(class_id, student_id)
+            SELECT :classId, u.id
+            FROM users u
+            WHERE u.id IN (:studentIds)
+            ON CONFLICT (class_id, student_id) DO NOTHING
+            """, nativeQuery = true)
+    int enrollUsersToClass(@Param("classId") Integer classId,
+                           @Param("studentIds") java.util.Collection<Integer> studentIds);
+
     Optional<ClassStudent> findByStudyClassIdAndStudentId(Integer classId, Integer studentId);
 
     @Query("select cs.studyClass.id from ClassStudent cs where cs.student.id = :studentId and cs.studyClass.course.id = :courseId")
     java.util.List<Integer> findClassIdsByStudentInCourse(@Param("studentId") Integer studentId,
                                                          @Param("courseId") Integer courseId);
 
+    @Query("select cs.studyClass.id from ClassStudent cs where cs.student.id = :studentId")
+    java.util.List<Integer> findClassIdsByStudentId(@Param("studentId") Integer studentId);
+
+    @Query("select distinct cs.studyClass.course.id from ClassStudent cs where cs.student.id = :studentId")
+    java.util.List<Integer> findCourseIdsByStudentId(@Param("studentId") Integer studentId);
+
     @Query("select (count(cs) > 0) from ClassStudent cs where cs.student.id = :studentId and cs.studyClass.course.id = :courseId")
     boolean existsStudentInCourse(@Param("studentId") Integer studentId, @Param("courseId") Integer courseId);
 
@@ -39,6 +62,9 @@ public interface ClassStudentRepository extends JpaRepository<ClassStudent, Inte
     @Query("select (count(cs) > 0) from ClassStudent cs where cs.student.id = :studentId and cs.studyClass.course.id = :courseId and cs.studyClass.teacher.id = :teacherId")
     boolean existsStudentInTeacherCourse(@Param("studentId") Integer studentId, @Param("teacherId") Integer teacherId, @Param("courseId") Integer courseId);
 
+    @Query("select distinct cs.student.id from ClassStudent cs where cs.student.id in :studentIds and cs.studyClass.course.id = :courseId and cs.studyClass.teacher.id = :teacherId")
+    List<Integer> findStudentIdsInTeacherCourse(@Param("studentIds") java.util.Collection<Integer> studentIds, @Param("teacherId") Integer teacherId, @Param("courseId") Integer courseId);
+
     @Query("select (count(cs) > 0) from ClassStudent cs where cs.student.id = :studentId and cs.studyClass.course.createdBy.id = :methodistId")
     boolean existsStudentInMethodistCourses(@Param("studentId") Integer studentId, @Param("methodistId") Integer methodistId);
 
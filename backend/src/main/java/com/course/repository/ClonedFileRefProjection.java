@@ -0,0 +1,7 @@
+package com.course.repository;
+
+public interface ClonedFileRefProjection {
+    Integer getId();
+    Integer getSourceId();
+    String getUrl();
+}
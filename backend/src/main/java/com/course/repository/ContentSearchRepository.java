@@ -0,0 +1,200 @@
+package com.course.repository;
+
+import com.course.dto.search.SearchHitResponse;
+import com.course.dto.search.SlideSearchHitResponse;
+import com.course.entity.RoleName;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+public class ContentSearchRepository {
+
+    public static final String TYPE_COURSE = "COURSE";
+    public static final String TYPE_LESSON = "LESSON";
+    public static final String TYPE_ACTIVITY = "ACTIVITY";
+    public static final String TYPE_QUESTION = "QUESTION";
+
+    private static final String LESSON_OPENED_FOR_STUDENT = """
+            EXISTS (SELECT 1 FROM class_opened_lessons col
+                    JOIN class_students cs ON cs.class_id = col.class_id
+                    WHERE cs.student_id = :userId AND col.lesson_id = %s)""";
+
+    private static final String TEST_OPENED_FOR_STUDENT = """
+            EXISTS (SELECT 1 FROM class_opened_tests cot
+                    JOIN class_students cs ON cs.class_id = cot.class_id
+                    WHERE cs.student_id = :userId AND cot.test_id = t.id)""";
+
+    private static final String REMEDIAL_ASSIGNED = """
+            EXISTS (SELECT 1 FROM student_remedial_assignments sra
+                    WHERE sra.student_id = :userId AND sra.test_id = t.id)""";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    
+    public List<SearchHitResponse> search(String text, Set<String> types, RoleName role, Integer userId, int limit, int offset) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("q", text);
+        params.put("limit", limit);
+        params.put("offset", offset);
+        if (role != RoleName.ADMIN) {
+            params.put("userId", userId);
+        }
+
+        String activityFilter = activityFilter(role);
+        List<String> parts = new ArrayList<>();
+        if (types.contains(TYPE_COURSE)) {
+            parts.add("""
+                    SELECT 'COURSE' AS type, c.id AS id, c.name AS title, c.description AS body,
+                           c.id AS course_id, CAST(NULL AS INT) AS lesson_id, CAST(NULL AS INT) AS test_id,
+                           ts_rank(c.search_vector, q.query) AS rank
+                    FROM courses c, q
+                    WHERE c.search_vector @@ q.query AND c.id IN (SELECT id FROM vc)""");
+        }
+        if (types.contains(TYPE_LESSON)) {
+            parts.add("""
+                    SELECT 'LESSON' AS type, l.id AS id, l.title AS title, l.description AS body,
+                           l.course_id AS course_id, l.id AS lesson_id, CAST(NULL AS INT) AS test_id,
+                           ts_rank(l.search_vector, q.query) AS rank
+                    FROM lessons l, q
+                    WHERE l.search_vector @@ q.query AND l.course_id IN (SELECT id FROM vc)"""
+                    + (role == RoleName.STUDENT ? " AND " + LESSON_OPENED_FOR_STUDENT.formatted("l.id") : ""));
+        }
+        if (types.contains(TYPE_ACTIVITY)) {
+            parts.add("""
+                    SELECT 'ACTIVITY' AS type, t.id AS id, t.title AS title, coalesce(t.description, t.topic) AS body,
+                           t.course_id AS course_id, t.lesson_id AS lesson_id, t.id AS test_id,
+                           ts_rank(t.search_vector, q.query) AS rank
+                    FROM tests t, q
+                    WHERE t.search_vector @@ q.query AND t.course_id IN (SELECT id FROM vc)""" + activityFilter);
+        }
+        if (types.contains(TYPE_QUESTION)) {
+            parts.add("""
+                    SELECT 'QUESTION' AS type, tq.id AS id, t.title AS title, tq.question_text AS body,
+                           t.course_id AS course_id, t.lesson_id AS lesson_id, t.id AS test_id,
+                           ts_rank(tq.search_vector, q.query) AS rank
+                    FROM test_questions tq
+                    JOIN tests t ON t.id = tq.test_id, q
+                    WHERE tq.search_vector @@ q.query AND t.course_id IN (SELECT id FROM vc)""" + activityFilter);
+        }
+
+        String sql = "WITH q AS (SELECT websearch_to_tsquery('russian', CAST(:q AS text)) AS query), "
+                + "vc AS (" + visibleCourses(role) + "), "
+                + "hits AS (" + String.join(" UNION ALL ", parts) + " ORDER BY rank DESC, type, id LIMIT :limit OFFSET :offset) "
+                + "SELECT h.type, h.id, h.title, "
+                + "ts_headline('russian', coalesce(h.body, ''), q.query, 'MaxFragments=1, MaxWords=30, MinWords=10, StartSel=«, StopSel=»'), "
+                + "h.course_id, h.lesson_id, h.test_id, h.rank "
+                + "FROM hits h, q ORDER BY h.rank DESC, h.type, h.id";
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+
+        List<SearchHitResponse> result = new ArrayList<>();
+        for (Object row : query.getResultList()) {
+            Object[] r = (Object[]) row;
+            result.add(new SearchHitResponse(
+                    (String) r[0],
+                    toInteger(r[1]),
+                    (String) r[2],
+                    (String) r[3],
+                    toInteger(r[4]),
+                    toInteger(r[5]),
+                    toInteger(r[6]),
+                    r[7] == null ? 0.0 : ((Number) r[7]).doubleValue()
+            ));
+        }
+        return result;
+    }
+
+    public List<SlideSearchHitResponse> searchSlides(String text, Integer courseId, Integer lessonId,
+                                                     RoleName role, Integer userId, int limit, int offset) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("q", text);
+        params.put("limit", limit);
+        params.put("offset", offset);
+        if (role != RoleName.ADMIN) {
+            params.put("userId", userId);
+        }
+
+        StringBuilder where = new StringBuilder("s.search_vector @@ q.query AND l.course_id IN (SELECT id FROM vc)");
+        if (role == RoleName.STUDENT) {
+            where.append(" AND ").append(LESSON_OPENED_FOR_STUDENT.formatted("l.id"));
+        }
+        if (courseId != null) {
+            where.append(" AND l.course_id = :courseId");
+            params.put("courseId", courseId);
+        }
+        if (lessonId != null) {
+            where.append(" AND l.id = :lessonId");
+            params.put("lessonId", lessonId);
+        }
+
+        String sql = "WITH q AS (SELECT websearch_to_tsquery('russian', CAST(:q AS text)) AS query), "
+                + "vc AS (" + visibleCourses(role) + "), "
+                + "hits AS (SELECT l.id AS lesson_id, l.title AS title, l.course_id AS course_id, s.page_number AS page, "
+                + "s.content AS body, ts_rank(s.search_vector, q.query) AS rank "
+                + "FROM lesson_slide_texts s "
+                + "JOIN lessons l ON l.id = s.lesson_id AND l.presentation_url = s.presentation_url, q "
+                + "WHERE " + where + " "
+                + "ORDER BY rank DESC, lesson_id, page LIMIT :limit OFFSET :offset) "
+                + "SELECT h.lesson_id, h.title, h.course_id, h.page, "
+                + "ts_headline('russian', h.body, q.query, 'MaxFragments=1, MaxWords=30, MinWords=10, StartSel=«, StopSel=»'), h.rank "
+                + "FROM hits h, q ORDER BY h.rank DESC, h.lesson_id, h.page";
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+
+        List<SlideSearchHitResponse> result = new ArrayList<>();
+        for (Object row : query.getResultList()) {
+            Object[] r = (Object[]) row;
+            result.add(new SlideSearchHitResponse(
+                    toInteger(r[0]),
+                    (String) r[1],
+                    toInteger(r[2]),
+                    toInteger(r[3]),
+                    (String) r[4],
+                    r[5] == null ? 0.0 : ((Number) r[5]).doubleValue()
+            ));
+        }
+        return result;
+    }
+
+    private static String visibleCourses(RoleName role) {
+        return switch (role) {
+            case ADMIN -> "SELECT id FROM courses";
+            case METHODIST -> "SELECT id FROM courses WHERE created_by = :userId";
+            case TEACHER -> "SELECT DISTINCT course_id AS id FROM classes WHERE teacher_id = :userId";
+            case STUDENT -> """
+                    SELECT DISTINCT c.course_id AS id
+                    FROM class_students cs
+                    JOIN classes c ON c.id = cs.class_id
+                    WHERE cs.student_id = :userId""";
+        };
+    }
+
+    
+    private static String activityFilter(RoleName role) {
+        if (role == RoleName.ADMIN || role == RoleName.METHODIST) {
+            return "";
+        }
+        String filter = " AND t.status = 'READY'";
+        if (role == RoleName.STUDENT) {
+            filter += " AND ((t.lesson_id IS NOT NULL AND " + TEST_OPENED_FOR_STUDENT
+                    + " AND " + LESSON_OPENED_FOR_STUDENT.formatted("t.lesson_id") + ")"
+                    + " OR (t.lesson_id IS NULL AND (t.activity_type <> 'REMEDIAL_TASK' OR " + REMEDIAL_ASSIGNED + ")))";
+        }
+        return filter;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+}
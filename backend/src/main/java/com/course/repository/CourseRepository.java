@@ -1,7 +1,135 @@
 package com.course.repository;
 
 import com.course.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CourseRepository extends JpaRepository<Course, Integer> {
+
+    @Query("select count(c) as rowCount, max(c.id) as maxId, max(c.updatedAt) as lastUpdated from Course c")
+    VersionStampProjection stampAll();
+
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lessons"))
+    @Query(value = """
+        INSERT INTO lessons(title, description, presentation_url, order_index, course_id, created_by, created_at, updated_at)
+        SELECT l.title, l.description, NULL, l.order_index, :targetId, :userId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM lessons l
+        WHERE l.course_id = :sourceId
+        """, nativeQuery = true)
+    int cloneLessons(@Param("sourceId") Integer sourceId,
+                     @Param("targetId") Integer targetId,
+                     @Param("userId") Integer userId);
+
+
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tests"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_questions")
+    })
+    @Query(value = """
+        WITH src AS (
+            SELECT t.id, t.lesson_id, t.activity_type, t.weight_multiplier, t.time_limit_seconds,
+                   t.title, t.description, t.topic, t.deadline,
+                   nextval(pg_get_serial_sequence('tests', 'id')) AS new_id
+            FROM tests t
+            WHERE t.course_id = :sourceId
+        ), cloned AS (
+            INSERT INTO tests(id, lesson_id, course_id, activity_type, weight_multiplier, time_limit_seconds, created_by,
+                              title, description, topic, deadline, status, created_at, updated_at)
+            SELECT src.new_id, nl.id, :targetId, src.activity_type, src.weight_multiplier, src.time_limit_seconds, :userId,
+                   src.title, src.description, src.topic, src.deadline, 'DRAFT', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM src
+            LEFT JOIN lessons ol ON ol.id = src.lesson_id
+            LEFT JOIN lessons nl ON nl.course_id = :targetId AND nl.order_index = ol.order_index
+        )
+        INSERT INTO test_questions(test_id, order_index, question_text, question_type, points,
+                                   option_1, option_2, option_3, option_4, correct_option, correct_text_answer,
+                                   accepted_text_answers, text_match_mode, text_max_typos, created_at, updated_at)
+        SELECT src.new_id, q.order_index, q.question_text, q.question_type, q.points,
+               q.option_1, q.option_2, q.option_3, q.option_4, q.correct_option, q.correct_text_answer,
+               q.accepted_text_answers, q.text_match_mode, q.text_max_typos, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM test_questions q
+        JOIN src ON src.id = q.test_id
+        """, nativeQuery = true)
+    int cloneActivitiesWithQuestions(@Param("sourceId") Integer sourceId,
+                                     @Param("targetId") Integer targetId,
+                                     @Param("userId") Integer userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "achievements"))
+    @Query(value = """
+        INSERT INTO achievements(title, joke_description, description, photo_url, course_id, created_by, created_at, updated_at)
+        SELECT a.title, a.joke_description, a.description, '', :targetId, :userId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM achievements a
+        WHERE a.course_id = :sourceId
+        """, nativeQuery = true)
+    int cloneAchievements(@Param("sourceId") Integer sourceId,
+                          @Param("targetId") Integer targetId,
+                          @Param("userId") Integer userId);
+
+    @Query(value = "SELECT count(*) FROM tests WHERE course_id = :courseId", nativeQuery = true)
+    int countActivities(@Param("courseId") Integer courseId);
+
+    @Query(value = """
+        SELECT nl.id AS id, ol.id AS sourceId, ol.presentation_url AS url
+        FROM lessons ol
+        JOIN lessons nl ON nl.course_id = :targetId AND nl.order_index = ol.order_index
+        WHERE ol.course_id = :sourceId AND ol.presentation_url IS NOT NULL
+        ORDER BY nl.id
+        """, nativeQuery = true)
+    List<ClonedFileRefProjection> findClonedLessonPresentations(@Param("sourceId") Integer sourceId,
+                                                                @Param("targetId") Integer targetId);
+
+    @Query(value = """
+        SELECT na.id AS id, oa.id AS sourceId, oa.photo_url AS url
+        FROM achievements oa
+        JOIN achievements na ON na.course_id = :targetId AND na.title = oa.title
+        WHERE oa.course_id = :sourceId AND oa.photo_url <> ''
+        ORDER BY na.id
+        """, nativeQuery = true)
+    List<ClonedFileRefProjection> findClonedAchievementPhotos(@Param("sourceId") Integer sourceId,
+                                                              @Param("targetId") Integer targetId);
+
+
+    @Modifying(clearAutomatically = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lessons"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lesson_slide_texts")
+    })
+    @Query(value = """
+        WITH x AS (
+            SELECT * FROM jsonb_to_recordset(CAST(:rows AS jsonb))
+                AS x(id INT, source_id INT, source_url VARCHAR, url VARCHAR)
+        ), slides AS (
+            INSERT INTO lesson_slide_texts(lesson_id, page_number, content, presentation_url, extracted_at)
+            SELECT x.id, s.page_number, s.content, x.url, s.extracted_at
+            FROM x
+            JOIN lessons l ON l.id = x.id AND l.course_id = :courseId
+            JOIN lesson_slide_texts s ON s.lesson_id = x.source_id AND s.presentation_url = x.source_url
+        )
+        UPDATE lessons l
+        SET presentation_url = x.url
+        FROM x
+        WHERE l.id = x.id AND l.course_id = :courseId
+        """, nativeQuery = true)
+    int updateLessonPresentations(@Param("courseId") Integer courseId, @Param("rows") String rowsJson);
+
+    @Modifying(clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "achievements"))
+    @Query(value = """
+        UPDATE achievements a
+        SET photo_url = x.url
+        FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS x(id INT, url VARCHAR)
+        WHERE a.id = x.id AND a.course_id = :courseId
+        """, nativeQuery = true)
+    int updateAchievementPhotos(@Param("courseId") Integer courseId, @Param("rows") String rowsJson);
 }
@@ -0,0 +1,11 @@
+package com.course.repository;
+
+public interface GradebookCellProjection {
+    Integer getStudentId();
+    String getStudentName();
+    Integer getTestId();
+    Integer getBestScore();
+    Integer getLatestScore();
+    String getLatestStatus();
+    Long getAttemptsCount();
+}
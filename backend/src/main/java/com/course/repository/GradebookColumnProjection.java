@@ -0,0 +1,10 @@
+package com.course.repository;
+
+public interface GradebookColumnProjection {
+    Integer getTestId();
+    String getTitle();
+    String getActivityType();
+    Integer getLessonId();
+    Integer getWeightMultiplier();
+    Long getMaxPoints();
+}
@@ -0,0 +1,78 @@
+package com.course.repository;
+
+import com.course.entity.TestAttempt;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+
+public interface GradebookRepository extends JpaRepository<TestAttempt, Integer> {
+
+    @Query(value = """
+            SELECT
+              t.id AS testId,
+              t.title AS title,
+              t.activity_type AS activityType,
+              t.lesson_id AS lessonId,
+              GREATEST(t.weight_multiplier, 1) AS weightMultiplier,
+              COALESCE((SELECT SUM(GREATEST(q.points, 1)) FROM test_questions q WHERE q.test_id = t.id), 0) AS maxPoints
+            FROM tests t
+            LEFT JOIN lessons l ON l.id = t.lesson_id
+            WHERE t.course_id = :courseId
+              AND t.status = 'READY'
+              AND t.activity_type IN ('HOMEWORK_TEST', 'CONTROL_WORK')
+            ORDER BY l.order_index ASC NULLS LAST, t.deadline ASC, t.id ASC
+            """, nativeQuery = true)
+    List<GradebookColumnProjection> findColumns(@Param("courseId") Integer courseId);
+
+    
+    String CELLS_QUERY = """
+            WITH roster AS (
+              SELECT u.id AS student_id, u.name AS student_name
+              FROM class_students cs
+              JOIN users u ON u.id = cs.student_id
+              WHERE cs.class_id = :classId
+            ),
+            cells AS (
+              SELECT
+                ta.student_id AS student_id,
+                ta.test_id AS test_id,
+                MAX(COALESCE(ta.score, 0)) AS best_score,
+                (ARRAY_AGG(COALESCE(ta.score, 0) ORDER BY ta.attempt_number DESC))[1] AS latest_score,
+                (ARRAY_AGG(ta.status ORDER BY ta.attempt_number DESC))[1] AS latest_status,
+                COUNT(*) AS attempts_count
+              FROM test_attempts ta
+              JOIN roster r ON r.student_id = ta.student_id
+              JOIN tests t ON t.id = ta.test_id
+              WHERE t.course_id = :courseId
+                AND t.status = 'READY'
+                AND t.activity_type IN ('HOMEWORK_TEST', 'CONTROL_WORK')
+                AND ta.status IN ('SUBMITTED', 'GRADED')
+              GROUP BY ta.student_id, ta.test_id
+            )
+            SELECT
+              r.student_id AS studentId,
+              r.student_name AS studentName,
+              c.test_id AS testId,
+              c.best_score AS bestScore,
+              c.latest_score AS latestScore,
+              c.latest_status AS latestStatus,
+              c.attempts_count AS attemptsCount
+            FROM roster r
+            LEFT JOIN cells c ON c.student_id = r.student_id
+            ORDER BY r.student_name ASC, r.student_id ASC
+            """;
+
+    @Query(value = CELLS_QUERY, nativeQuery = true)
+    List<GradebookCellProjection> findCells(@Param("classId") Integer classId, @Param("courseId") Integer courseId);
+
+    @Query(value = CELLS_QUERY, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<GradebookCellProjection> streamCells(@Param("classId") Integer classId, @Param("courseId") Integer courseId);
+}
@@ -0,0 +1,88 @@
+package com.course.repository;
+
+import com.course.entity.TestAttempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+
+public interface LeaderboardRepository extends JpaRepository<TestAttempt, Integer> {
+
+    String MEMBER_SCORES = """
+            latest AS (
+              SELECT DISTINCT ON (ta.student_id, ta.test_id)
+                ta.student_id AS student_id,
+                ta.test_id AS test_id,
+                COALESCE(ta.score, 0) AS score
+              FROM test_attempts ta
+              WHERE ta.status IN ('SUBMITTED', 'GRADED')
+                AND ta.student_id IN (SELECT m.student_id FROM members m)
+              ORDER BY ta.student_id, ta.test_id, ta.attempt_number DESC
+            )
+            SELECT
+              m.class_id AS classId,
+              m.student_id AS studentId,
+              COALESCE(SUM(l.score * GREATEST(t.weight_multiplier, 1)), 0) AS weightedScore
+            FROM members m
+            LEFT JOIN tests t ON t.course_id = m.course_id
+              AND t.status = 'READY'
+              AND t.activity_type IN ('HOMEWORK_TEST', 'CONTROL_WORK')
+            LEFT JOIN latest l ON l.student_id = m.student_id AND l.test_id = t.id
+            GROUP BY m.class_id, m.student_id
+            """;
+
+    @Query(value = """
+            WITH members AS (
+              SELECT cs.class_id AS class_id, cs.student_id AS student_id, c.course_id AS course_id
+              FROM class_students cs
+              JOIN classes c ON c.id = cs.class_id
+              WHERE cs.class_id = :classId
+            ),
+            """ + MEMBER_SCORES, nativeQuery = true)
+    List<LeaderboardScoreProjection> findClassScores(@Param("classId") Integer classId);
+
+    @Query(value = """
+            WITH members AS (
+              SELECT cs.class_id AS class_id, cs.student_id AS student_id, c.course_id AS course_id
+              FROM class_students cs
+              JOIN classes c ON c.id = cs.class_id
+            ),
+            """ + MEMBER_SCORES, nativeQuery = true)
+    List<LeaderboardScoreProjection> findAllClassScores();
+
+    @Query(value = """
+            WITH latest AS (
+              SELECT DISTINCT ON (ta.test_id)
+                ta.test_id AS test_id,
+                COALESCE(ta.score, 0) AS score
+              FROM test_attempts ta
+              JOIN tests t ON t.id = ta.test_id
+              WHERE ta.student_id = :studentId
+                AND t.course_id = :courseId
+                AND ta.status IN ('SUBMITTED', 'GRADED')
+              ORDER BY ta.test_id, ta.attempt_number DESC
+            ),
+            score AS (
+              SELECT COALESCE(SUM(l.score * GREATEST(t.weight_multiplier, 1)), 0) AS weighted_score
+              FROM latest l
+              JOIN tests t ON t.id = l.test_id
+              WHERE t.status = 'READY'
+                AND t.activity_type IN ('HOMEWORK_TEST', 'CONTROL_WORK')
+            )
+            SELECT
+              cs.class_id AS classId,
+              cs.student_id AS studentId,
+              s.weighted_score AS weightedScore
+            FROM class_students cs
+            JOIN classes c ON c.id = cs.class_id
+            CROSS JOIN score s
+            WHERE cs.student_id = :studentId
+              AND c.course_id = :courseId
+            """, nativeQuery = true)
+    List<LeaderboardScoreProjection> findStudentScoresInCourse(
+            @Param("studentId") Integer studentId,
+            @Param("courseId") Integer courseId
+    );
+}
@@ -0,0 +1,7 @@
+package com.course.repository;
+
+public interface LeaderboardScoreProjection {
+    Integer getClassId();
+    Integer getStudentId();
+    Long getWeightedScore();
+}
@@ -1,18 +1,26 @@
 package com.course.repository;
 
 import com.course.entity.Lesson;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface LessonRepository extends JpaRepository<Lesson, Integer> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Lesson> findAllByCourse_IdOrderByOrderIndexAsc(Integer courseId);
 
     boolean existsByCourse_IdAndTitleIgnoreCase(Integer courseId, String title);
 
     @Query("select coalesce(max(l.orderIndex), 0) from Lesson l where l.course.id = :courseId")
     int findMaxOrderIndexInCourse(@Param("courseId") Integer courseId);
+
+    @Query("select count(l) as rowCount, max(l.id) as maxId, max(l.updatedAt) as lastUpdated " +
+            "from Lesson l where l.course.id = :courseId")
+    VersionStampProjection stampByCourse(@Param("courseId") Integer courseId);
 }
@@ -0,0 +1,55 @@
+package com.course.repository;
+
+import com.course.entity.LessonSlideText;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LessonSlideTextRepository extends JpaRepository<LessonSlideText, Integer> {
+
+    long countByLesson_IdAndPresentationUrlAndPageNumberGreaterThan(Integer lessonId, String presentationUrl, Integer pageNumber);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lesson_slide_texts"))
+    @Query(value = """
+        INSERT INTO lesson_slide_texts(lesson_id, page_number, content, presentation_url, extracted_at)
+        SELECT l.id, x.page_number, x.content, l.presentation_url, CURRENT_TIMESTAMP
+        FROM lessons l
+        CROSS JOIN jsonb_to_recordset(CAST(:pages AS jsonb)) AS x(page_number INT, content TEXT)
+        WHERE l.id = :lessonId AND l.presentation_url = :url
+        ON CONFLICT (lesson_id, page_number) DO UPDATE
+            SET content = EXCLUDED.content,
+                presentation_url = EXCLUDED.presentation_url,
+                extracted_at = EXCLUDED.extracted_at
+        """, nativeQuery = true)
+    int upsertPages(@Param("lessonId") Integer lessonId, @Param("url") String url, @Param("pages") String pagesJson);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "lesson_slide_texts"))
+    @Query(value = """
+        DELETE FROM lesson_slide_texts
+        WHERE lesson_id = :lessonId
+          AND (page_number NOT BETWEEN :firstPage AND :lastPage OR presentation_url <> :url)
+        """, nativeQuery = true)
+    int deleteStalePages(@Param("lessonId") Integer lessonId,
+                         @Param("url") String url,
+                         @Param("firstPage") int firstPage,
+                         @Param("lastPage") int lastPage);
+
+    @Query(value = """
+        SELECT l.id AS id, l.presentation_url AS url
+        FROM lessons l
+        WHERE l.presentation_url IS NOT NULL
+          AND NOT EXISTS (SELECT 1 FROM lesson_slide_texts s
+                          WHERE s.lesson_id = l.id AND s.presentation_url = l.presentation_url)
+        ORDER BY l.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PresentationRefProjection> findLessonsWithoutSlideIndex(@Param("limit") int limit);
+}
@@ -2,9 +2,12 @@ package com.course.repository;
 
 import com.course.entity.MethodistTeacher;
 import com.course.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +22,16 @@ public interface MethodistTeacherRepository extends JpaRepository<MethodistTeach
     @Query("delete from MethodistTeacher mt where mt.methodist.id = :methodistId and mt.teacher.id = :teacherId")
     int deleteLink(@Param("methodistId") Integer methodistId, @Param("teacherId") Integer teacherId);
 
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "methodist_teachers"))
+    @Query(value = """
+        INSERT INTO methodist_teachers(methodist_id, teacher_id)
+        SELECT x.methodist_id, x.teacher_id
+        FROM jsonb_to_recordset(CAST(:links AS jsonb)) AS x(methodist_id INT, teacher_id INT)
+        ON CONFLICT (methodist_id, teacher_id) DO NOTHING
+        """, nativeQuery = true)
+    int linkTeachersBatch(@Param("links") String linksJson);
+
     @Query("select mt.teacher from MethodistTeacher mt where mt.methodist.id = :methodistId and mt.teacher.deleted = false order by mt.teacher.name asc")
     Page<User> findTeachersByMethodistId(@Param("methodistId") Integer methodistId, Pageable pageable);
 }
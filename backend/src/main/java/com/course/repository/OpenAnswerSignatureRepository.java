@@ -0,0 +1,31 @@
+package com.course.repository;
+
+import com.course.entity.OpenAnswerSignature;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OpenAnswerSignatureRepository extends JpaRepository<OpenAnswerSignature, Integer> {
+
+    List<OpenAnswerSignature> findAllByAnswerIdIn(Collection<Integer> answerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "open_answer_signatures"))
+    @Query(value = """
+        INSERT INTO open_answer_signatures(answer_id, question_id, signature, computed_at)
+        SELECT x.answer_id, x.question_id, decode(x.signature, 'base64'), CURRENT_TIMESTAMP
+        FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS x(answer_id INT, question_id INT, signature TEXT)
+        ON CONFLICT (answer_id) DO UPDATE
+            SET question_id = EXCLUDED.question_id,
+                signature = EXCLUDED.signature,
+                computed_at = EXCLUDED.computed_at
+        """, nativeQuery = true)
+    int upsertSignatures(@Param("rows") String rowsJson);
+}
@@ -0,0 +1,6 @@
+package com.course.repository;
+
+public interface PresentationRefProjection {
+    Integer getId();
+    String getUrl();
+}
@@ -2,6 +2,8 @@ package com.course.repository;
 
 import com.course.entity.StudentRemedialAssignment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,6 +13,9 @@ public interface StudentRemedialAssignmentRepository extends JpaRepository<Stude
 
     boolean existsByStudent_IdAndTest_Id(Integer studentId, Integer testId);
 
+    @Query("select distinct sra.test.id from StudentRemedialAssignment sra where sra.student.id = :studentId")
+    List<Integer> findTestIdsByStudentId(@Param("studentId") Integer studentId);
+
     Optional<StudentRemedialAssignment> findFirstByStudent_IdAndTest_Id(Integer studentId, Integer testId);
 
     List<StudentRemedialAssignment> findAllByStudent_IdAndCourse_IdAndAssignedWeekStart(Integer studentId, Integer courseId, LocalDate assignedWeekStart);
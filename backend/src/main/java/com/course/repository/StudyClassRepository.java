@@ -15,6 +15,11 @@ public interface StudyClassRepository extends JpaRepository<StudyClass, Integer>
 
     List<StudyClass> findAllByCreatedById(Integer createdById);
 
+    @Query("select distinct sc.course.id from StudyClass sc where sc.teacher.id = :teacherId")
+    List<Integer> findCourseIdsByTeacherId(@Param("teacherId") Integer teacherId);
+
+    boolean existsByTeacherIdAndCourseId(Integer teacherId, Integer courseId);
+
     @Query("select distinct cs.studyClass from ClassStudent cs where cs.student.id = :studentId order by cs.studyClass.name asc")
     List<StudyClass> findAllByStudentId(@Param("studentId") Integer studentId);
 
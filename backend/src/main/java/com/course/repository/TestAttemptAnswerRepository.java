@@ -1,11 +1,44 @@
 package com.course.repository;
 
 import com.course.entity.TestAttemptAnswer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TestAttemptAnswerRepository extends JpaRepository<TestAttemptAnswer, Integer> {
 
     List<TestAttemptAnswer> findAllByAttempt_IdOrderByIdAsc(Integer attemptId);
+
+    List<TestAttemptAnswer> findAllByAttempt_IdInAndQuestion_Id(Collection<Integer> attemptIds, Integer questionId);
+
+    List<TestAttemptAnswer> findAllByAttempt_IdInAndQuestion_IdAndGradedAtIsNull(Collection<Integer> attemptIds, Integer questionId);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_attempt_answers"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_attempts")
+    })
+    @Query(value = """
+            UPDATE test_attempt_answers a
+            SET points_awarded = g.points_awarded,
+                is_correct = g.is_correct,
+                feedback = g.feedback,
+                graded_at = CURRENT_TIMESTAMP,
+                updated_at = CURRENT_TIMESTAMP
+            FROM jsonb_to_recordset(CAST(:rows AS jsonb))
+              AS g(answer_id INT, points_awarded INT, is_correct BOOLEAN, feedback TEXT)
+            WHERE a.id = g.answer_id
+            """, nativeQuery = true)
+    int applyGrades(@Param("rows") String rowsJson);
+
+    @Query(value = "SELECT set_config('app.skip_attempt_recalc', CASE WHEN :skip THEN 'on' ELSE 'off' END, true)",
+            nativeQuery = true)
+    String setAttemptRecalcSkipped(@Param("skip") boolean skip);
 }
@@ -2,10 +2,16 @@ package com.course.repository;
 
 import com.course.entity.TestAttempt;
 import com.course.entity.TestAttemptStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +35,38 @@ public interface TestAttemptRepository extends JpaRepository<TestAttempt, Intege
             List<TestAttemptStatus> status
     );
 
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_attempts"))
+    @Query(value = """
+            UPDATE test_attempts ta
+            SET score = s.awarded,
+                max_score = m.max_total,
+                status = CASE WHEN s.ungraded_open = 0 THEN 'GRADED' ELSE 'SUBMITTED' END,
+                updated_at = CURRENT_TIMESTAMP
+            FROM (
+              SELECT
+                a.attempt_id AS attempt_id,
+                COALESCE(SUM(COALESCE(a.points_awarded, 0)), 0) AS awarded,
+                COUNT(*) FILTER (WHERE q.question_type = 'OPEN' AND a.graded_at IS NULL) AS ungraded_open
+              FROM test_attempt_answers a
+              JOIN test_questions q ON q.id = a.question_id
+              WHERE a.attempt_id IN (:attemptIds)
+              GROUP BY a.attempt_id
+            ) s,
+            (
+              SELECT
+                tq.test_id AS test_id,
+                COALESCE(SUM(GREATEST(COALESCE(tq.points, 1), 1)), 0) AS max_total
+              FROM test_questions tq
+              WHERE tq.test_id IN (SELECT t.test_id FROM test_attempts t WHERE t.id IN (:attemptIds))
+              GROUP BY tq.test_id
+            ) m
+            WHERE ta.id = s.attempt_id
+              AND m.test_id = ta.test_id
+            """, nativeQuery = true)
+    int recalculateScores(@Param("attemptIds") Collection<Integer> attemptIds);
+
     boolean existsByTest_IdAndStudent_IdAndStatus(Integer testId, Integer studentId, TestAttemptStatus status);
 
     int countByTest_IdAndStudent_Id(Integer testId, Integer studentId);
@@ -188,4 +226,49 @@ public interface TestAttemptRepository extends JpaRepository<TestAttempt, Intege
             @Param("testIds") List<Integer> testIds,
             @Param("statuses") List<TestAttemptStatus> statuses
     );
+
+    @Query(value = """
+            SELECT ta.id
+            FROM test_attempts ta
+            JOIN tests t ON t.id = ta.test_id
+            WHERE ta.status = 'IN_PROGRESS'
+              AND t.activity_type = 'CONTROL_WORK'
+              AND t.time_limit_seconds > 0
+              AND ta.started_at + make_interval(secs => t.time_limit_seconds) <= :now
+            ORDER BY ta.started_at ASC, ta.id ASC
+            LIMIT :limit
+            FOR UPDATE OF ta SKIP LOCKED
+            """, nativeQuery = true)
+    List<Integer> lockExpiredControlWorkAttemptIds(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+            SELECT ta.id
+            FROM test_attempts ta
+            WHERE ta.id IN (:attemptIds)
+              AND ta.status = 'IN_PROGRESS'
+            ORDER BY ta.id ASC
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Integer> lockInProgressAttemptIds(@Param("attemptIds") List<Integer> attemptIds);
+
+    @Query(value = """
+            SELECT
+              ta.id AS attemptId,
+              ta.started_at + make_interval(secs => t.time_limit_seconds) AS deadline
+            FROM test_attempts ta
+            JOIN tests t ON t.id = ta.test_id
+            WHERE ta.status = 'IN_PROGRESS'
+              AND t.activity_type = 'CONTROL_WORK'
+              AND t.time_limit_seconds > 0
+              AND ta.started_at + make_interval(secs => t.time_limit_seconds) <= :horizon
+            ORDER BY deadline ASC, ta.id ASC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<AttemptDeadlineProjection> findControlWorkDeadlinesUntil(
+            @Param("horizon") LocalDateTime horizon,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,6 @@
+package com.course.repository;
+
+public interface TestQuestionCountProjection {
+    Integer getTestId();
+    Long getQuestionCount();
+}
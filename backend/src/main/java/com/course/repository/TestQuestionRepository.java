@@ -1,15 +1,83 @@
 package com.course.repository;
 
 import com.course.entity.TestQuestion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TestQuestionRepository extends JpaRepository<TestQuestion, Integer> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<TestQuestion> findAllByTest_IdOrderByOrderIndexAsc(Integer testId);
 
     int countByTest_Id(Integer testId);
 
+    @Query("select q.test.id as testId, count(q) as questionCount from TestQuestion q where q.test.id in :testIds group by q.test.id")
+    List<TestQuestionCountProjection> countByTestIds(@Param("testIds") Collection<Integer> testIds);
+
+    @Query("select count(q) as rowCount, max(q.id) as maxId, max(q.updatedAt) as lastUpdated " +
+            "from TestQuestion q where q.test.id = :testId")
+    VersionStampProjection stampByTest(@Param("testId") Integer testId);
+
     boolean existsByTest_IdAndOrderIndex(Integer testId, Integer orderIndex);
+
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_questions"))
+    @Query(value = "SET CONSTRAINTS uq_test_question_order DEFERRED", nativeQuery = true)
+    void deferOrderIndexCheck();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_questions"))
+    @Query(value = "DELETE FROM test_questions WHERE test_id = :testId AND id IN (:ids)", nativeQuery = true)
+    int deleteQuestions(@Param("testId") Integer testId, @Param("ids") Collection<Integer> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_questions"))
+    @Query(value = """
+        UPDATE test_questions q
+        SET order_index = x.order_index,
+            question_text = x.question_text,
+            question_type = x.question_type,
+            points = x.points,
+            option_1 = x.option_1,
+            option_2 = x.option_2,
+            option_3 = x.option_3,
+            option_4 = x.option_4,
+            correct_option = x.correct_option,
+            correct_text_answer = x.correct_text_answer,
+            accepted_text_answers = x.accepted_text_answers,
+            text_match_mode = x.text_match_mode,
+            text_max_typos = x.text_max_typos,
+            updated_at = CURRENT_TIMESTAMP
+        FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS x(id INT, order_index INT, question_text VARCHAR, question_type VARCHAR, points INT,
+                                                           option_1 VARCHAR, option_2 VARCHAR, option_3 VARCHAR, option_4 VARCHAR,
+                                                           correct_option INT, correct_text_answer VARCHAR,
+                                                           accepted_text_answers VARCHAR, text_match_mode VARCHAR, text_max_typos INT)
+        WHERE q.id = x.id AND q.test_id = :testId
+        """, nativeQuery = true)
+    int updateQuestions(@Param("testId") Integer testId, @Param("rows") String rowsJson);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "test_questions"))
+    @Query(value = """
+        INSERT INTO test_questions(test_id, order_index, question_text, question_type, points,
+                                   option_1, option_2, option_3, option_4, correct_option, correct_text_answer,
+                                   accepted_text_answers, text_match_mode, text_max_typos, created_at, updated_at)
+        SELECT :testId, x.order_index, x.question_text, x.question_type, x.points,
+               x.option_1, x.option_2, x.option_3, x.option_4, x.correct_option, x.correct_text_answer,
+               x.accepted_text_answers, x.text_match_mode, x.text_max_typos, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS x(id INT, order_index INT, question_text VARCHAR, question_type VARCHAR, points INT,
+                                                           option_1 VARCHAR, option_2 VARCHAR, option_3 VARCHAR, option_4 VARCHAR,
+                                                           correct_option INT, correct_text_answer VARCHAR,
+                                                           accepted_text_answers VARCHAR, text_match_mode VARCHAR, text_max_typos INT)
+        """, nativeQuery = true)
+    int insertQuestions(@Param("testId") Integer testId, @Param("rows") String rowsJson);
 }
@@ -0,0 +1,6 @@
+package com.course.repository;
+
+import com.course.entity.RoleName;
+
+public record UserDirectoryQuery(RoleName role, Boolean deleted, String prefix, String afterName, Integer afterId) {
+}
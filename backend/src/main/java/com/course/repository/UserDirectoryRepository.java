@@ -0,0 +1,15 @@
+package com.course.repository;
+
+import com.course.entity.User;
+
+import java.util.List;
+
+public interface UserDirectoryRepository {
+
+    List<User> findDirectoryPage(UserDirectoryQuery query, int limit);
+
+    long countDirectory(UserDirectoryQuery query);
+
+    
+    long estimateDirectory(UserDirectoryQuery query);
+}
@@ -0,0 +1,93 @@
+package com.course.repository;
+
+import com.course.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class UserDirectoryRepositoryImpl implements UserDirectoryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> findDirectoryPage(UserDirectoryQuery query, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT u.* FROM users u");
+        appendWhere(sql, params, query, true);
+        sql.append(" ORDER BY lower(u.name) COLLATE \"C\", u.id LIMIT :limit");
+        params.put("limit", limit);
+
+        Query q = entityManager.createNativeQuery(sql.toString(), User.class);
+        params.forEach(q::setParameter);
+        return q.getResultList();
+    }
+
+    @Override
+    public long countDirectory(UserDirectoryQuery query) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT count(*) FROM users u");
+        appendWhere(sql, params, query, false);
+
+        Query q = entityManager.createNativeQuery(sql.toString());
+        params.forEach(q::setParameter);
+        return ((Number) q.getSingleResult()).longValue();
+    }
+
+    @Override
+    public long estimateDirectory(UserDirectoryQuery query) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT u.id FROM users u");
+        appendWhere(sql, params, query, false);
+
+        Query q = entityManager.createNativeQuery(sql.toString());
+        params.forEach(q::setParameter);
+        try {
+            JsonNode plan = objectMapper.readTree(String.valueOf(q.getSingleResult()));
+            return plan.path(0).path("Plan").path("Plan Rows").asLong(0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse query plan", e);
+        }
+    }
+
+    private static void appendWhere(StringBuilder sql, Map<String, Object> params, UserDirectoryQuery query, boolean keyset) {
+        if (query.role() != null) {
+            sql.append(" JOIN role r ON r.id = u.role_id");
+        }
+        sql.append(" WHERE 1 = 1");
+        if (query.role() != null) {
+            sql.append(" AND r.rolename = CAST(:role AS role_name)");
+            params.put("role", query.role().name());
+        }
+        if (query.deleted() != null) {
+            sql.append(" AND u.deleted = :deleted");
+            params.put("deleted", query.deleted());
+        }
+        if (query.prefix() != null && !query.prefix().isBlank()) {
+            sql.append(" AND (lower(u.name) COLLATE \"C\" LIKE :prefix OR lower(u.email) LIKE :prefix)");
+            params.put("prefix", escapeLike(query.prefix().trim().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (keyset && query.afterName() != null && query.afterId() != null) {
+            sql.append(" AND (lower(u.name) COLLATE \"C\", u.id) > (lower(CAST(:afterName AS text)) COLLATE \"C\", :afterId)");
+            params.put("afterName", query.afterName());
+            params.put("afterId", query.afterId());
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,7 @@
+package com.course.repository;
+
+public interface UserIdentityProjection {
+    String getName();
+    String getEmail();
+    String getTgId();
+}
@@ -7,11 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Integer> {
+public interface UserRepository extends JpaRepository<User, Integer>, UserDirectoryRepository {
     Optional<User> findByEmail(String email);
     Optional<User> findByName(String name);
     Optional<User> findByEmailAndDeletedFalse(String email);
@@ -21,6 +22,27 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     boolean existsByTgId(String tgId);
     List<User> findAllByRole_RolenameAndDeletedFalseOrderByNameAsc(RoleName roleName);
 
+    @Query("select u from User u join fetch u.role where lower(u.email) in :emails")
+    List<User> findAllByEmailLowerIn(@Param("emails") Collection<String> emails);
+
+    @Query("select u from User u join fetch u.role where u.id in :ids")
+    List<User> findAllWithRoleByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("""
+        select u.name as name, u.email as email, u.tgId as tgId
+        from User u
+        where lower(u.email) in :emails or u.name in :names or u.tgId in :tgIds
+        """)
+    List<UserIdentityProjection> findIdentityConflicts(@Param("emails") Collection<String> emails,
+                                                       @Param("names") Collection<String> names,
+                                                       @Param("tgIds") Collection<String> tgIds);
+
+    @Query("select u.name from User u where u.name in :names")
+    List<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Query("select u.tgId from User u where u.tgId in :tgIds")
+    List<String> findExistingTgIds(@Param("tgIds") Collection<String> tgIds);
+
     @Query(value = """
         SELECT register_user(
             :name, 
@@ -37,4 +59,17 @@ public interface UserRepository extends JpaRepository<User, Integer> {
             @Param("roleName") String roleName,
             @Param("tgId") String tgId
     );
+
+    
+    @Query(value = """
+        INSERT INTO users(role_id, name, email, password, tg_id)
+        SELECT r.id, x.name, x.email, x.password, NULLIF(x.tg_id, '')
+        FROM role r
+        CROSS JOIN jsonb_to_recordset(CAST(:rows AS jsonb))
+            AS x(name VARCHAR(63), email VARCHAR(127), password VARCHAR(127), tg_id VARCHAR(127))
+        WHERE r.rolename = CAST(:roleName AS role_name)
+        ON CONFLICT DO NOTHING
+        RETURNING id
+        """, nativeQuery = true)
+    List<Integer> registerUsersBatch(@Param("rows") String rowsJson, @Param("roleName") String roleName);
 }
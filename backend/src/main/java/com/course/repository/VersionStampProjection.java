@@ -0,0 +1,9 @@
+package com.course.repository;
+
+import java.time.LocalDateTime;
+
+public interface VersionStampProjection {
+    Long getRowCount();
+    Integer getMaxId();
+    LocalDateTime getLastUpdated();
+}
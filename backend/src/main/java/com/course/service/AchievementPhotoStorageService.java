@@ -8,8 +8,10 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
 import java.util.Set;
@@ -72,6 +74,42 @@ public class AchievementPhotoStorageService {
         s3Client.deleteObject(req);
     }
 
+    
+    public String copyToCourse(String publicUrl, Integer courseId) {
+        if (!StringUtils.hasText(publicUrl)) {
+            return publicUrl;
+        }
+
+        String prefix = props.getPublicUrl().replaceAll("/+$", "") + "/" + props.getBucket() + "/";
+        if (!publicUrl.startsWith(prefix)) {
+            return publicUrl;
+        }
+
+        String key = publicUrl.substring(prefix.length());
+        if (!StringUtils.hasText(key)) {
+            return publicUrl;
+        }
+
+        int dot = key.lastIndexOf('.');
+        String ext = dot > key.lastIndexOf('/') ? key.substring(dot) : "";
+        String targetKey = "achievements/course-" + courseId + "/" + UUID.randomUUID() + ext;
+        try {
+            CopyObjectRequest req = CopyObjectRequest.builder()
+                    .sourceBucket(props.getBucket())
+                    .sourceKey(key)
+                    .destinationBucket(props.getBucket())
+                    .destinationKey(targetKey)
+                    .build();
+            s3Client.copyObject(req);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw new AchievementPhotoValidationException("Failed to copy achievement photo");
+        }
+        return buildPublicUrl(targetKey);
+    }
+
     private void validatePhoto(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new AchievementPhotoValidationException("Achievement photo is required");
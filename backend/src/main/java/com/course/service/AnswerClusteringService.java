@@ -0,0 +1,191 @@
+package com.course.service;
+
+import com.course.dto.attempt.AnswerClusterMemberResponse;
+import com.course.dto.attempt.AnswerClusterResponse;
+import com.course.dto.attempt.AnswerClustersResponse;
+import com.course.dto.attempt.BatchGradeItemRequest;
+import com.course.dto.attempt.BatchGradeRequest;
+import com.course.dto.attempt.BatchGradeResponse;
+import com.course.dto.attempt.ClusterGradeRequest;
+import com.course.dto.attempt.PendingAttemptResponse;
+import com.course.dto.attempt.SimilarAnswerGroupResponse;
+import com.course.dto.attempt.SimilarAnswersResponse;
+import com.course.entity.Test;
+import com.course.entity.TestAttemptAnswer;
+import com.course.entity.TestQuestion;
+import com.course.entity.TestQuestionType;
+import com.course.exception.ResourceNotFoundException;
+import com.course.exception.TestAttemptValidationException;
+import com.course.repository.TestAttemptAnswerRepository;
+import com.course.repository.TestQuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnswerClusteringService {
+
+    private static final double DEFAULT_SIMILARITY_THRESHOLD = 0.7;
+    private static final double MIN_SIMILARITY_THRESHOLD = 0.5;
+
+    private final TestService testService;
+    private final TestAttemptService attemptService;
+    private final BatchGradingService batchGradingService;
+    private final TestAttemptAnswerRepository answerRepository;
+    private final TestQuestionRepository questionRepository;
+    private final OpenAnswerSimilarityIndex similarityIndex;
+
+    public AnswerClustersResponse getClusters(Integer testId, Integer questionId, Integer classId) {
+        TestQuestion question = getOpenQuestion(testId, questionId);
+        Map<String, List<AnswerClusterMemberResponse>> clusters = loadClusters(testId, questionId, classId);
+
+        List<AnswerClusterResponse> result = new ArrayList<>();
+        int pending = 0;
+        for (Map.Entry<String, List<AnswerClusterMemberResponse>> e : clusters.entrySet()) {
+            pending += e.getValue().size();
+            result.add(new AnswerClusterResponse(clusterKey(e.getKey()), e.getKey(), e.getValue().size(), e.getValue()));
+        }
+        result.sort(Comparator.comparing(AnswerClusterResponse::getSize).reversed()
+                .thenComparing(AnswerClusterResponse::getNormalizedText));
+
+        return new AnswerClustersResponse(
+                testId,
+                questionId,
+                question.getQuestionText(),
+                AttemptScoring.questionPoints(question),
+                pending,
+                result
+        );
+    }
+
+    
+    @Transactional
+    public BatchGradeResponse gradeCluster(Integer testId, Integer questionId, String clusterKey, Integer classId, ClusterGradeRequest dto) {
+        if (dto == null || dto.getPointsAwarded() == null) {
+            throw new TestAttemptValidationException("pointsAwarded is required");
+        }
+        getOpenQuestion(testId, questionId);
+
+        List<AnswerClusterMemberResponse> members = null;
+        for (Map.Entry<String, List<AnswerClusterMemberResponse>> e : loadClusters(testId, questionId, classId).entrySet()) {
+            if (clusterKey(e.getKey()).equals(clusterKey)) {
+                members = e.getValue();
+                break;
+            }
+        }
+        if (members == null || members.isEmpty()) {
+            throw new ResourceNotFoundException("Answer cluster " + clusterKey + " has no pending answers");
+        }
+
+        BatchGradeRequest batch = new BatchGradeRequest();
+        batch.setGrades(members.stream()
+                .map(m -> new BatchGradeItemRequest(m.getAttemptId(), dto.getPointsAwarded(), dto.getFeedback()))
+                .toList());
+        return batchGradingService.gradeQuestion(testId, questionId, batch);
+    }
+
+    
+    public SimilarAnswersResponse getSimilarAnswers(Integer testId, Integer questionId, Integer classId, Double threshold) {
+        double t = threshold == null ? DEFAULT_SIMILARITY_THRESHOLD : threshold;
+        if (t < MIN_SIMILARITY_THRESHOLD || t > 1.0) {
+            throw new TestAttemptValidationException("threshold must be between " + MIN_SIMILARITY_THRESHOLD + " and 1.0");
+        }
+        TestQuestion question = getOpenQuestion(testId, questionId);
+        Map<Integer, PendingAttemptResponse> pending = loadPending(testId, classId);
+
+        List<TestAttemptAnswer> answers = pending.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(answerRepository.findAllByAttempt_IdInAndQuestion_Id(pending.keySet(), questionId));
+        answers.sort(Comparator.comparing(TestAttemptAnswer::getId));
+
+        Map<Integer, TestAttemptAnswer> byId = new LinkedHashMap<>();
+        for (TestAttemptAnswer a : answers) {
+            byId.put(a.getId(), a);
+        }
+        Map<Integer, int[]> signatures = similarityIndex.signatures(answers);
+
+        List<SimilarAnswerGroupResponse> groups = new ArrayList<>();
+        for (OpenAnswerSimilarityIndex.Group g : similarityIndex.groups(signatures, t)) {
+            List<AnswerClusterMemberResponse> members = g.answerIds().stream()
+                    .map(id -> toMember(byId.get(id), pending))
+                    .toList();
+            groups.add(new SimilarAnswerGroupResponse(members.size(), g.minSimilarity(), g.maxSimilarity(), members));
+        }
+
+        return new SimilarAnswersResponse(
+                testId,
+                questionId,
+                question.getQuestionText(),
+                t,
+                signatures.size(),
+                groups
+        );
+    }
+
+    private TestQuestion getOpenQuestion(Integer testId, Integer questionId) {
+        Test test = testService.getEntityForCurrentUser(testId);
+        TestQuestion question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Question with id " + questionId + " not found"));
+        if (question.getTest() == null || !test.getId().equals(question.getTest().getId())) {
+            throw new TestAttemptValidationException("questionId=" + questionId + " does not belong to activity " + testId);
+        }
+        if (question.getQuestionType() != TestQuestionType.OPEN) {
+            throw new TestAttemptValidationException("questionId=" + questionId + " is not an OPEN question");
+        }
+        return question;
+    }
+
+    
+    private Map<String, List<AnswerClusterMemberResponse>> loadClusters(Integer testId, Integer questionId, Integer classId) {
+        Map<Integer, PendingAttemptResponse> pending = loadPending(testId, classId);
+
+        Map<String, List<AnswerClusterMemberResponse>> clusters = new LinkedHashMap<>();
+        if (pending.isEmpty()) {
+            return clusters;
+        }
+
+        List<TestAttemptAnswer> answers = new ArrayList<>(answerRepository
+                .findAllByAttempt_IdInAndQuestion_IdAndGradedAtIsNull(pending.keySet(), questionId));
+        answers.sort(Comparator.comparing(TestAttemptAnswer::getId));
+        for (TestAttemptAnswer a : answers) {
+            clusters.computeIfAbsent(AttemptScoring.normalizeAnswer(a.getTextAnswer()), k -> new ArrayList<>())
+                    .add(toMember(a, pending));
+        }
+        return clusters;
+    }
+
+    private Map<Integer, PendingAttemptResponse> loadPending(Integer testId, Integer classId) {
+        Map<Integer, PendingAttemptResponse> pending = new LinkedHashMap<>();
+        for (PendingAttemptResponse p : attemptService.listPendingAttemptsForTeacher(null, testId, classId)) {
+            pending.putIfAbsent(p.getAttemptId(), p);
+        }
+        return pending;
+    }
+
+    private static AnswerClusterMemberResponse toMember(TestAttemptAnswer a, Map<Integer, PendingAttemptResponse> pending) {
+        PendingAttemptResponse p = pending.get(a.getAttempt().getId());
+        return new AnswerClusterMemberResponse(
+                p.getAttemptId(),
+                p.getStudentId(),
+                p.getStudentName(),
+                p.getClassName(),
+                a.getTextAnswer(),
+                p.getSubmittedAt()
+        );
+    }
+
+    private static String clusterKey(String normalizedText) {
+        return DigestUtils.md5DigestAsHex(normalizedText.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+}
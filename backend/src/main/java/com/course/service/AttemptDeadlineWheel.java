@@ -0,0 +1,109 @@
+package com.course.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+final class AttemptDeadlineWheel {
+
+    private final long tickMillis;
+    private final List<Map<Integer, Long>> buckets;
+    private final Map<Integer, Long> scheduledTicks = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTick;
+
+    AttemptDeadlineWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    
+    void schedule(Integer attemptId, long deadlineMillis) {
+        lock.lock();
+        try {
+            if (attemptId == null) {
+                return;
+            }
+            long tick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+            Long previous = scheduledTicks.get(attemptId);
+            if (previous != null) {
+                if (previous == tick) {
+                    return;
+                }
+                buckets.get(index(previous)).remove(attemptId);
+            }
+            buckets.get(index(tick)).put(attemptId, tick);
+            scheduledTicks.put(attemptId, tick);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void cancel(Integer attemptId) {
+        lock.lock();
+        try {
+            Long previous = scheduledTicks.remove(attemptId);
+            if (previous != null) {
+                buckets.get(index(previous)).remove(attemptId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    
+    List<Integer> advance(long nowMillis) {
+        lock.lock();
+        try {
+            long targetTick = nowMillis / tickMillis;
+            List<Integer> due = new ArrayList<>();
+            if (targetTick <= currentTick) {
+                return due;
+            }
+
+            long steps = Math.min(targetTick - currentTick, buckets.size());
+            for (long i = 1; i <= steps; i++) {
+                Iterator<Map.Entry<Integer, Long>> it = buckets.get(index(currentTick + i)).entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Integer, Long> e = it.next();
+                    if (e.getValue() <= targetTick) {
+                        due.add(e.getKey());
+                        scheduledTicks.remove(e.getKey());
+                        it.remove();
+                    }
+                }
+            }
+            currentTick = targetTick;
+            return due;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return scheduledTicks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int index(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.size());
+    }
+}
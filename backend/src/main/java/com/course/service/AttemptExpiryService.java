@@ -0,0 +1,76 @@
+package com.course.service;
+
+import com.course.config.AttemptExpiryProperties;
+import com.course.repository.AttemptDeadlineProjection;
+import com.course.repository.TestAttemptRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.attempts.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AttemptExpiryService {
+
+    private final TestAttemptService testAttemptService;
+    private final TestAttemptRepository attemptRepository;
+    private final AttemptExpiryProperties props;
+    private final AttemptDeadlineWheel wheel;
+
+    public AttemptExpiryService(TestAttemptService testAttemptService,
+                                TestAttemptRepository attemptRepository,
+                                AttemptExpiryProperties props) {
+        this.testAttemptService = testAttemptService;
+        this.attemptRepository = attemptRepository;
+        this.props = props;
+        this.wheel = new AttemptDeadlineWheel(props.getTickMillis(), props.getWheelSize(), System.currentTimeMillis());
+    }
+
+    
+    @Scheduled(fixedDelayString = "${app.attempts.expiry.tick-millis:1000}")
+    public void tick() {
+        List<Integer> due = wheel.advance(System.currentTimeMillis());
+        int batchSize = Math.max(1, props.getBatchSize());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Integer> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                testAttemptService.finalizeExpiredAttempts(batch);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to finalize expired attempts {}", batch, ex);
+            }
+        }
+    }
+
+    
+    @Scheduled(
+            initialDelayString = "${app.attempts.expiry.tick-millis:1000}",
+            fixedDelayString = "${app.attempts.expiry.sweep-interval-millis:30000}"
+    )
+    public void sweepAndSeed() {
+        int batchSize = Math.max(1, props.getBatchSize());
+        try {
+            int finalized;
+            do {
+                finalized = testAttemptService.finalizeExpiredControlWorks(batchSize);
+                if (finalized > 0) {
+                    log.info("Finalized {} expired control work attempts", finalized);
+                }
+            } while (finalized >= batchSize);
+
+            LocalDateTime horizon = LocalDateTime.now().plusSeconds(props.getSeedHorizonSeconds());
+            ZoneId zone = ZoneId.systemDefault();
+            for (AttemptDeadlineProjection p : attemptRepository.findControlWorkDeadlinesUntil(horizon, props.getWheelSize() * batchSize)) {
+                if (p.getAttemptId() != null && p.getDeadline() != null) {
+                    wheel.schedule(p.getAttemptId(), p.getDeadline().atZone(zone).toInstant().toEpochMilli());
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Expired attempts sweep failed", ex);
+        }
+    }
+}
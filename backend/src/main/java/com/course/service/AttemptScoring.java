@@ -0,0 +1,48 @@
+package com.course.service;
+
+import com.course.entity.TestQuestion;
+import com.course.entity.TestQuestionType;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+
+final class AttemptScoring {
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{Punct}«»“”„–—…]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private AttemptScoring() {
+    }
+
+    static int questionPoints(TestQuestion q) {
+        return (q == null || q.getPoints() == null || q.getPoints() < 1) ? 1 : q.getPoints();
+    }
+
+    static TestQuestionType questionType(TestQuestion q) {
+        return (q == null || q.getQuestionType() == null) ? TestQuestionType.SINGLE_CHOICE : q.getQuestionType();
+    }
+
+    
+    static boolean isAutoCorrect(TextAnswerMatcherCache matchers, TestQuestion q, Integer selectedOption, String textAnswer) {
+        TestQuestionType type = questionType(q);
+        if (type == TestQuestionType.SINGLE_CHOICE) {
+            return q.getCorrectOption() != null && q.getCorrectOption().equals(selectedOption);
+        }
+        if (type == TestQuestionType.TEXT) {
+            return matchers.forQuestion(q).matches(textAnswer);
+        }
+        return false;
+    }
+
+    
+    static String normalizeAnswer(String answer) {
+        if (answer == null) {
+            return "";
+        }
+        String s = Normalizer.normalize(answer, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).replace('ё', 'е');
+        s = PUNCTUATION.matcher(s).replaceAll(" ");
+        return WHITESPACE.matcher(s.trim()).replaceAll(" ");
+    }
+}
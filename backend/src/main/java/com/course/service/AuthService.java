@@ -7,11 +7,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String CURRENT_USER_ATTRIBUTE = AuthService.class.getName() + ".currentUser";
+
     private final UserService userService;
 
 
@@ -24,6 +28,17 @@ public class AuthService {
             throw new ForbiddenOperationException("Unauthenticated");
         }
 
-        return userService.getUserEntityByUsernameOrEmail(username);
+        
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        String key = CURRENT_USER_ATTRIBUTE + ":" + username;
+        if (attrs != null && attrs.getAttribute(key, RequestAttributes.SCOPE_REQUEST) instanceof User cached) {
+            return cached;
+        }
+
+        User user = userService.getUserEntityByUsernameOrEmail(username);
+        if (attrs != null) {
+            attrs.setAttribute(key, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
     }
 }
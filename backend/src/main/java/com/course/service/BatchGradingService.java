@@ -0,0 +1,171 @@
+package com.course.service;
+
+import com.course.dto.attempt.BatchGradeItemRequest;
+import com.course.dto.attempt.BatchGradeRequest;
+import com.course.dto.attempt.BatchGradeResponse;
+import com.course.dto.attempt.BatchGradeResultResponse;
+import com.course.entity.RoleName;
+import com.course.entity.Test;
+import com.course.entity.TestAttempt;
+import com.course.entity.TestAttemptAnswer;
+import com.course.entity.TestAttemptStatus;
+import com.course.entity.TestQuestion;
+import com.course.entity.TestQuestionType;
+import com.course.entity.User;
+import com.course.exception.ForbiddenOperationException;
+import com.course.exception.ResourceNotFoundException;
+import com.course.exception.TestAttemptValidationException;
+import com.course.repository.TestAttemptAnswerRepository;
+import com.course.repository.TestAttemptRepository;
+import com.course.repository.TestQuestionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BatchGradingService {
+
+    private final AuthService authService;
+    private final TestService testService;
+    private final ClassStudentService classStudentService;
+    private final RemedialAssignmentService remedialAssignmentService;
+    private final StudentCoursePageCache coursePageCache;
+    private final ClassLeaderboardIndex leaderboardIndex;
+
+    private final TestAttemptRepository attemptRepository;
+    private final TestAttemptAnswerRepository answerRepository;
+    private final TestQuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
+
+    
+    public BatchGradeResponse gradeQuestion(Integer testId, Integer questionId, BatchGradeRequest dto) {
+        User current = authService.getCurrentUserEntity();
+        if (!isRole(current, RoleName.TEACHER) && !isRole(current, RoleName.METHODIST) && !isRole(current, RoleName.ADMIN)) {
+            throw new ForbiddenOperationException("Access denied");
+        }
+        if (dto == null || dto.getGrades() == null || dto.getGrades().isEmpty()) {
+            throw new TestAttemptValidationException("grades are required");
+        }
+
+        Test test = testService.getEntityForCurrentUser(testId);
+        TestQuestion question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Question with id " + questionId + " not found"));
+        if (question.getTest() == null || !test.getId().equals(question.getTest().getId())) {
+            throw new TestAttemptValidationException("questionId=" + questionId + " does not belong to activity " + testId);
+        }
+        if (question.getQuestionType() != TestQuestionType.OPEN) {
+            throw new TestAttemptValidationException("questionId=" + questionId + " is not an OPEN question");
+        }
+        int max = question.getPoints() != null && question.getPoints() > 0 ? question.getPoints() : 1;
+
+        Set<Integer> attemptIds = new LinkedHashSet<>();
+        for (BatchGradeItemRequest g : dto.getGrades()) {
+            if (g == null || g.getAttemptId() == null) {
+                throw new TestAttemptValidationException("Each grade must contain attemptId");
+            }
+            if (!attemptIds.add(g.getAttemptId())) {
+                throw new TestAttemptValidationException("Duplicate grade for attemptId=" + g.getAttemptId());
+            }
+            int pa = g.getPointsAwarded() == null ? 0 : g.getPointsAwarded();
+            if (pa < 0 || pa > max) {
+                throw new TestAttemptValidationException("pointsAwarded for attemptId=" + g.getAttemptId() + " must be between 0 and " + max);
+            }
+        }
+
+        List<TestAttempt> attempts = attemptRepository.findAllById(attemptIds);
+        if (attempts.size() != attemptIds.size()) {
+            throw new ResourceNotFoundException("Some attempts were not found");
+        }
+        Set<Integer> studentIds = new LinkedHashSet<>();
+        for (TestAttempt attempt : attempts) {
+            if (attempt.getTest() == null || !test.getId().equals(attempt.getTest().getId())) {
+                throw new TestAttemptValidationException("attemptId=" + attempt.getId() + " does not belong to activity " + testId);
+            }
+            if (attempt.getStatus() != TestAttemptStatus.SUBMITTED && attempt.getStatus() != TestAttemptStatus.GRADED) {
+                throw new TestAttemptValidationException("Only SUBMITTED or GRADED attempts can be graded (attemptId=" + attempt.getId() + ")");
+            }
+            studentIds.add(attempt.getStudent().getId());
+        }
+
+        if (isRole(current, RoleName.TEACHER)) {
+            classStudentService.assertStudentsInTeacherCourse(studentIds, current.getId(), test.getCourse().getId(),
+                    "Teacher can grade only own students");
+        }
+
+        Map<Integer, TestAttemptAnswer> answerByAttempt = new HashMap<>();
+        for (TestAttemptAnswer a : answerRepository.findAllByAttempt_IdInAndQuestion_Id(attemptIds, questionId)) {
+            answerByAttempt.put(a.getAttempt().getId(), a);
+        }
+
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (BatchGradeItemRequest g : dto.getGrades()) {
+            TestAttemptAnswer answer = answerByAttempt.get(g.getAttemptId());
+            if (answer == null) {
+                throw new TestAttemptValidationException("attemptId=" + g.getAttemptId() + " has no answer for questionId=" + questionId);
+            }
+            int pa = g.getPointsAwarded() == null ? 0 : g.getPointsAwarded();
+            String feedback = g.getFeedback() == null ? null : g.getFeedback().trim();
+            rows.addObject()
+                    .put("answer_id", answer.getId())
+                    .put("points_awarded", pa)
+                    .put("is_correct", pa == max)
+                    .put("feedback", feedback == null || feedback.isEmpty() ? null : feedback);
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize grades", e);
+        }
+
+        answerRepository.setAttemptRecalcSkipped(true);
+        answerRepository.applyGrades(json);
+        answerRepository.setAttemptRecalcSkipped(false);
+        attemptRepository.recalculateScores(attemptIds);
+
+        List<TestAttempt> graded = new ArrayList<>(attemptRepository.findAllById(attemptIds));
+        graded.sort(Comparator.comparing(TestAttempt::getId));
+
+        List<BatchGradeResultResponse> results = new ArrayList<>();
+        for (TestAttempt attempt : graded) {
+            Integer studentId = attempt.getStudent().getId();
+            coursePageCache.evictStudent(studentId);
+            leaderboardIndex.refreshStudent(studentId, test.getCourse().getId());
+            if (attempt.getStatus() == TestAttemptStatus.GRADED) {
+                remedialAssignmentService.considerAssignAfterGrading(attempt);
+            }
+            remedialAssignmentService.markCompletedIfRemedial(attempt);
+
+            results.add(new BatchGradeResultResponse(
+                    attempt.getId(),
+                    studentId,
+                    attempt.getScore(),
+                    attempt.getMaxScore(),
+                    attempt.getStatus() != null ? attempt.getStatus().name() : null
+            ));
+        }
+
+        return new BatchGradeResponse(testId, questionId, results.size(), results);
+    }
+
+    private static boolean isRole(User user, RoleName role) {
+        return user != null
+                && user.getRole() != null
+                && user.getRole().getRolename() == role;
+    }
+}
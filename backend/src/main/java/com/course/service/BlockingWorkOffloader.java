@@ -0,0 +1,119 @@
+package com.course.service;
+
+import com.course.config.ExecutionProperties;
+import com.course.exception.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+
+@Slf4j
+@Component
+public class BlockingWorkOffloader {
+
+    
+    public interface RenderPermit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final ExecutorService renderPool;
+    private final ExecutorService mailPool;
+    private final ExecutorService storagePool;
+    private final Executor renderExecutor;
+    private final Executor mailExecutor;
+    private final Executor storageExecutor;
+    private final Semaphore renderPermits;
+    private final long renderAcquireTimeoutMillis;
+
+    public BlockingWorkOffloader(ExecutionProperties props) {
+        this.renderPool = executor("render-", props.getRenderPoolSize(), props);
+        this.mailPool = executor("mail-", props.getMailPoolSize(), props);
+        this.storagePool = executor("storage-", props.getStoragePoolSize(), props);
+        this.renderExecutor = new DelegatingSecurityContextExecutor(renderPool);
+        this.mailExecutor = new DelegatingSecurityContextExecutor(mailPool);
+        this.storageExecutor = new DelegatingSecurityContextExecutor(storagePool);
+        int permits = props.getRenderPermits() > 0
+                ? props.getRenderPermits()
+                : Runtime.getRuntime().availableProcessors();
+        this.renderPermits = new Semaphore(permits, true);
+        this.renderAcquireTimeoutMillis = props.getRenderAcquireTimeoutMillis();
+    }
+
+    public <T> CompletableFuture<T> render(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, renderExecutor);
+    }
+
+    public CompletableFuture<Void> mail(Runnable task) {
+        return CompletableFuture.runAsync(task, mailExecutor);
+    }
+
+    public <T> CompletableFuture<T> storage(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, storageExecutor);
+    }
+
+    
+    public RenderPermit acquireRenderPermit() {
+        boolean acquired;
+        try {
+            acquired = renderPermits.tryAcquire(renderAcquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new ServiceBusyException("Too many presentations are being rendered, try again later");
+        }
+        return renderPermits::release;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        renderPool.shutdown();
+        storagePool.shutdown();
+        mailPool.shutdown();
+        mailPool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private static ExecutorService executor(String prefix, int poolSize, ExecutionProperties props) {
+        if (props.isVirtualThreads()) {
+            ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+            if (virtual != null) {
+                return virtual;
+            }
+            log.warn("Virtual threads requested but not supported by Java {}; using a bounded {}* pool",
+                    Runtime.version().feature(), prefix);
+        }
+
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(props.getQueueCapacity()),
+                new CustomizableThreadFactory(prefix),
+                (task, pool) -> {
+                    throw new ServiceBusyException("Too many " + prefix + "tasks queued");
+                });
+    }
+
+    
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return null;
+        }
+    }
+}
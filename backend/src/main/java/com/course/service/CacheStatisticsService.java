@@ -0,0 +1,56 @@
+package com.course.service;
+
+import com.course.dto.cache.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsResponse> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsResponse> result = new ArrayList<>();
+        String[] regions = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regions);
+        for (String region : regions) {
+            CacheRegionStatistics r = statistics.getCacheRegionStatistics(region);
+            if (r == null) {
+                continue;
+            }
+            result.add(toDto(region, r.getHitCount(), r.getMissCount(), r.getPutCount(), r.getElementCountInMemory()));
+        }
+
+        result.add(toDto(
+                "query-cache",
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                -1
+        ));
+        return result;
+    }
+
+    private CacheRegionStatsResponse toDto(String region, long hits, long misses, long puts, long elements) {
+        CacheRegionStatsResponse dto = new CacheRegionStatsResponse();
+        dto.setRegion(region);
+        dto.setHitCount(hits);
+        dto.setMissCount(misses);
+        dto.setPutCount(puts);
+        long total = hits + misses;
+        dto.setHitRatio(total == 0 ? 0.0 : Math.round((hits * 10000.0) / total) / 10000.0);
+        dto.setElementCountInMemory(elements < 0 ? null : elements);
+        return dto;
+    }
+}
@@ -2,6 +2,7 @@ package com.course.service;
 
 import com.course.entity.Course;
 import com.course.entity.User;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -28,6 +29,7 @@ public class CertificatePdfService {
     private static final String FONT_PATH = "fonts/DejaVuSans.ttf";
 
     
+    @Timed(value = "app.pdf.certificate", description = "Course certificate PDF generation", percentiles = {0.5, 0.95, 0.99})
     public byte[] generateCourseCertificate(Course course,
                                             String teacherName,
                                             User student,
@@ -90,6 +90,17 @@ public class ClassAchievementFeedService {
         return new PageResponse<>(content, pageNumber, pageSize, all.size(), totalPages, last, first);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getFeedVersion(Integer classId, Pageable pageable) {
+        return ResourceVersion.ofAggregate(
+                "achievement-feed",
+                feedRepository.stampByClassId(classId),
+                classId,
+                pageable != null ? pageable.getPageNumber() : null,
+                pageable != null ? pageable.getPageSize() : null
+        );
+    }
+
     private StudentAchievementResponse toDto(ClassAchievementFeed f) {
         if (f == null) return null;
         StudentAchievementResponse dto = new StudentAchievementResponse();
@@ -1,7 +1,11 @@
 package com.course.service;
 
+import com.course.dto.auth.UserRegisterRequest;
+import com.course.dto.classroom.ClassJoinRequestBulkRequest;
+import com.course.dto.classroom.ClassJoinRequestBulkResponse;
 import com.course.dto.classroom.ClassJoinRequestByCodeRequest;
 import com.course.dto.classroom.ClassJoinRequestResponse;
+import com.course.dto.classroom.RosterImportResponse;
 import com.course.dto.user.UserResponse;
 import com.course.entity.ClassJoinRequest;
 import com.course.entity.ClassStudent;
@@ -13,11 +17,27 @@ import com.course.exception.ForbiddenOperationException;
 import com.course.exception.ResourceNotFoundException;
 import com.course.repository.ClassJoinRequestRepository;
 import com.course.repository.ClassStudentRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,12 +47,19 @@ public class ClassJoinRequestService {
     private static final RoleName ROLE_TEACHER = RoleName.TEACHER;
     private static final RoleName ROLE_METHODIST = RoleName.METHODIST;
 
+
     private final ClassJoinRequestRepository joinRequestRepository;
     private final ClassStudentRepository classStudentRepository;
+    private final StudentAccessContext studentAccessContext;
+    private final StudentCoursePageCache coursePageCache;
+    private final ClassLeaderboardIndex leaderboardIndex;
     private final StudyClassService classService;
     private final AuthService authService;
     private final UserService userService;
+    private final PasswordHashingPool passwordHashingPool;
     private final NotificationService notificationService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
 
     
 
@@ -113,11 +140,186 @@ public class ClassJoinRequestService {
         userService.assertUserEntityHasRole(student, RoleName.STUDENT);
 
         classStudentRepository.enrollUserToClass(student.getId(), sc.getId());
+        studentAccessContext.evict(student.getId());
+        coursePageCache.evictStudent(student.getId());
+        leaderboardIndex.refreshStudent(student.getId(), sc.getCourse() != null ? sc.getCourse().getId() : null);
         joinRequestRepository.delete(req);
 
         return userService.toDto(student);
     }
 
+    
+    public ClassJoinRequestBulkResponse approveBulk(Integer classId, ClassJoinRequestBulkRequest dto) {
+        StudyClass sc = classService.getEntityById(classId);
+        assertCanManageRequests(sc);
+
+        ClassJoinRequestBulkResponse result = new ClassJoinRequestBulkResponse();
+        List<ClassJoinRequest> requests = loadRequests(classId, dto, result);
+
+        Map<String, User> usersByEmail = userService.findUsersByEmails(
+                requests.stream().map(ClassJoinRequest::getEmail).toList());
+
+        Set<Integer> studentIds = new LinkedHashSet<>();
+        List<Integer> approvedRequestIds = new ArrayList<>();
+        for (ClassJoinRequest req : requests) {
+            User student = req.getEmail() == null ? null : usersByEmail.get(req.getEmail().toLowerCase(Locale.ROOT));
+            if (student == null || student.isDeleted()
+                    || student.getRole() == null || student.getRole().getRolename() != RoleName.STUDENT) {
+                result.getSkippedRequestIds().add(req.getId());
+                continue;
+            }
+            approvedRequestIds.add(req.getId());
+            if (studentIds.add(student.getId())) {
+                result.getApprovedStudents().add(userService.toDto(student));
+            }
+        }
+
+        if (!studentIds.isEmpty()) {
+            classStudentRepository.enrollUsersToClass(sc.getId(), studentIds);
+            studentIds.forEach(studentAccessContext::evict);
+            studentIds.forEach(coursePageCache::evictStudent);
+            leaderboardIndex.invalidateClass(sc.getId());
+        }
+        if (!approvedRequestIds.isEmpty()) {
+            joinRequestRepository.deleteAllByIdInBatch(approvedRequestIds);
+        }
+        result.setProcessedRequestIds(approvedRequestIds);
+        return result;
+    }
+
+    public ClassJoinRequestBulkResponse rejectBulk(Integer classId, ClassJoinRequestBulkRequest dto) {
+        StudyClass sc = classService.getEntityById(classId);
+        assertCanManageRequests(sc);
+
+        ClassJoinRequestBulkResponse result = new ClassJoinRequestBulkResponse();
+        List<Integer> ids = loadRequests(classId, dto, result).stream().map(ClassJoinRequest::getId).toList();
+        if (!ids.isEmpty()) {
+            joinRequestRepository.deleteAllByIdInBatch(ids);
+        }
+        result.setProcessedRequestIds(new ArrayList<>(ids));
+        return result;
+    }
+
+    
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RosterImportResponse importRoster(Integer classId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Roster file is required");
+        }
+        List<RosterCsvParser.Row> rows;
+        try (InputStream in = file.getInputStream()) {
+            rows = RosterCsvParser.parse(in);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read roster file");
+        }
+
+        RosterImportResponse result = new RosterImportResponse();
+        result.setTotalRows(rows.size());
+
+        Set<Integer> studentIds = new LinkedHashSet<>();
+        List<RosterCsvParser.Row> toCreate = new ArrayList<>();
+        List<String> rawPasswords = new ArrayList<>();
+        Map<String, String> generatedPasswords = new HashMap<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            StudyClass sc = classService.getEntityById(classId);
+            assertCanManageRequests(sc);
+
+            Map<String, User> existing = userService.findUsersByEmails(
+                    rows.stream().map(RosterCsvParser.Row::email).toList());
+            Set<String> takenNames = new HashSet<>(userService.findExistingNames(
+                    rows.stream().map(RosterCsvParser.Row::name).filter(Objects::nonNull).collect(Collectors.toSet())));
+            Set<String> takenTgIds = new HashSet<>(userService.findExistingTgIds(
+                    rows.stream().map(RosterCsvParser.Row::tgId).filter(Objects::nonNull).collect(Collectors.toSet())));
+
+            Set<String> seenEmails = new HashSet<>();
+            for (RosterCsvParser.Row row : rows) {
+                String email = row.email() == null ? null : row.email().toLowerCase(Locale.ROOT);
+                if (email == null) {
+                    result.getErrors().add(new RosterImportResponse.RowError(row.line(), "Email is required"));
+                    continue;
+                }
+                if (!seenEmails.add(email)) {
+                    result.getErrors().add(new RosterImportResponse.RowError(row.line(), "Duplicate email in file"));
+                    continue;
+                }
+
+                User user = existing.get(email);
+                if (user != null) {
+                    if (user.isDeleted()) {
+                        result.getErrors().add(new RosterImportResponse.RowError(row.line(), "User is deleted"));
+                    } else if (user.getRole() == null || user.getRole().getRolename() != RoleName.STUDENT) {
+                        result.getErrors().add(new RosterImportResponse.RowError(row.line(), "User is not a student"));
+                    } else {
+                        studentIds.add(user.getId());
+                    }
+                    continue;
+                }
+
+                String password = row.password();
+                if (password == null) {
+                    password = passwordHashingPool.generateTemporaryPassword();
+                    generatedPasswords.put(email, password);
+                }
+                UserRegisterRequest req = new UserRegisterRequest(row.name(), row.email(), password, row.tgId(), null);
+
+                Set<ConstraintViolation<UserRegisterRequest>> violations = validator.validate(req);
+                if (!violations.isEmpty()) {
+                    result.getErrors().add(new RosterImportResponse.RowError(row.line(),
+                            violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "))));
+                    continue;
+                }
+                if (!takenNames.add(req.getName())) {
+                    result.getErrors().add(new RosterImportResponse.RowError(row.line(),
+                            "User with name '" + req.getName() + "' already exists"));
+                    continue;
+                }
+                if (req.getTgId() != null && !takenTgIds.add(req.getTgId())) {
+                    result.getErrors().add(new RosterImportResponse.RowError(row.line(),
+                            "User with Telegram ID '" + req.getTgId() + "' already exists"));
+                    continue;
+                }
+                toCreate.add(row);
+                rawPasswords.add(password);
+            }
+        });
+
+        List<String> hashes = passwordHashingPool.encodeAll(rawPasswords);
+        List<UserService.BatchUser> batch = new ArrayList<>(toCreate.size());
+        for (int i = 0; i < toCreate.size(); i++) {
+            RosterCsvParser.Row row = toCreate.get(i);
+            batch.add(new UserService.BatchUser(row.name(), row.email(), hashes.get(i), row.tgId(), RoleName.STUDENT, null));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> createdEmails = new HashSet<>();
+            for (User created : userService.createUsersBatch(batch)) {
+                String email = created.getEmail().toLowerCase(Locale.ROOT);
+                createdEmails.add(email);
+                studentIds.add(created.getId());
+                result.getCreatedStudents().add(new RosterImportResponse.CreatedStudent(
+                        userService.toDto(created), generatedPasswords.get(email)));
+            }
+            for (RosterCsvParser.Row row : toCreate) {
+                if (!createdEmails.contains(row.email().toLowerCase(Locale.ROOT))) {
+                    result.getErrors().add(new RosterImportResponse.RowError(row.line(),
+                            "User with this email, name or Telegram ID already exists"));
+                }
+            }
+
+            if (!studentIds.isEmpty()) {
+                int inserted = classStudentRepository.enrollUsersToClass(classId, studentIds);
+                result.setEnrolledCount(inserted);
+                result.setAlreadyEnrolledCount(studentIds.size() - inserted);
+                studentIds.forEach(studentAccessContext::evict);
+                studentIds.forEach(coursePageCache::evictStudent);
+                leaderboardIndex.invalidateClass(classId);
+            }
+        });
+        result.getErrors().sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+        return result;
+    }
+
     public void delete(Integer classId, Integer requestId) {
         StudyClass sc = classService.getEntityById(classId);
         assertCanManageRequests(sc);
@@ -128,6 +330,29 @@ public class ClassJoinRequestService {
         joinRequestRepository.delete(req);
     }
 
+    private List<ClassJoinRequest> loadRequests(Integer classId,
+                                                ClassJoinRequestBulkRequest dto,
+                                                ClassJoinRequestBulkResponse result) {
+        if (dto != null && dto.isAllPending()) {
+            return joinRequestRepository.findAllByStudyClassIdOrderByCreatedAtDesc(classId);
+        }
+        if (dto == null || dto.getRequestIds() == null || dto.getRequestIds().isEmpty()) {
+            throw new IllegalArgumentException("requestIds must not be empty unless allPending is set");
+        }
+
+        Set<Integer> ids = new LinkedHashSet<>(dto.getRequestIds());
+        ids.remove(null);
+        List<ClassJoinRequest> found = joinRequestRepository.findAllByStudyClassIdAndIdIn(classId, ids);
+        Set<Integer> foundIds = found.stream().map(ClassJoinRequest::getId).collect(Collectors.toSet());
+        for (Integer id : ids) {
+            if (!foundIds.contains(id)) {
+                result.getNotFoundRequestIds().add(id);
+            }
+        }
+        return found;
+    }
+
+
     private void assertCanManageRequests(StudyClass sc) {
         User current = authService.getCurrentUserEntity();
         if (current == null) {
@@ -0,0 +1,203 @@
+package com.course.service;
+
+import com.course.repository.LeaderboardRepository;
+import com.course.repository.LeaderboardScoreProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+@Slf4j
+@Component
+public class ClassLeaderboardIndex {
+
+    private static final long TTL_MILLIS = 10 * 60_000L;
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final TransactionTemplate primaryReads;
+
+    private final Map<Integer, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Integer, ReentrantLock> classLocks = new ConcurrentHashMap<>();
+
+    public ClassLeaderboardIndex(LeaderboardRepository leaderboardRepository, PlatformTransactionManager transactionManager) {
+        this.leaderboardRepository = leaderboardRepository;
+        this.primaryReads = new TransactionTemplate(transactionManager);
+        this.primaryReads.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        try {
+            long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+            Map<Integer, Board> loaded = new HashMap<>();
+            for (LeaderboardScoreProjection row : primaryReads.execute(status -> leaderboardRepository.findAllClassScores())) {
+                loaded.computeIfAbsent(row.getClassId(), id -> new Board(expiresAt)).put(row.getStudentId(), score(row));
+            }
+            boards.clear();
+            boards.putAll(loaded);
+            log.info("Class leaderboards rebuilt for {} classes", loaded.size());
+        } catch (RuntimeException e) {
+            log.warn("Class leaderboard rebuild failed, boards will load on demand", e);
+        }
+    }
+
+    public Standing standing(Integer classId, Integer studentId, int limit) {
+        Board board = board(classId);
+        synchronized (board) {
+            Long score = studentId == null ? null : board.scores.get(studentId);
+            Integer rank = score == null ? null : board.tree.countAbove(score) + 1;
+            return new Standing(board.tree.size(), board.tree.top(limit), rank, score);
+        }
+    }
+
+
+    public void refreshStudent(Integer studentId, Integer courseId) {
+        if (studentId == null || courseId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            List<LeaderboardScoreProjection> rows = primaryReads.execute(
+                    status -> leaderboardRepository.findStudentScoresInCourse(studentId, courseId));
+            for (LeaderboardScoreProjection row : rows) {
+                ReentrantLock lock = lock(row.getClassId());
+                lock.lock();
+                try {
+                    Board board = boards.get(row.getClassId());
+                    if (board != null) {
+                        board.put(studentId, score(row));
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    public void removeMember(Integer classId, Integer studentId) {
+        if (classId == null || studentId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            ReentrantLock lock = lock(classId);
+            lock.lock();
+            try {
+                Board board = boards.get(classId);
+                if (board != null) {
+                    board.remove(studentId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+
+    public void invalidateClass(Integer classId) {
+        if (classId == null) {
+            return;
+        }
+        Runnable evict = () -> {
+            ReentrantLock lock = lock(classId);
+            lock.lock();
+            try {
+                boards.remove(classId);
+            } finally {
+                lock.unlock();
+            }
+        };
+        evict.run();
+        afterCommit(evict);
+    }
+
+    private Board board(Integer classId) {
+        Board board = boards.get(classId);
+        if (board != null && !board.isExpired()) {
+            return board;
+        }
+        ReentrantLock lock = lock(classId);
+        lock.lock();
+        try {
+            board = boards.get(classId);
+            if (board != null && !board.isExpired()) {
+                return board;
+            }
+            Board loaded = new Board(System.currentTimeMillis() + TTL_MILLIS);
+            for (LeaderboardScoreProjection row : primaryReads.execute(status -> leaderboardRepository.findClassScores(classId))) {
+                loaded.put(row.getStudentId(), score(row));
+            }
+            boards.put(classId, loaded);
+            return loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lock(Integer classId) {
+        return classLocks.computeIfAbsent(classId, id -> new ReentrantLock());
+    }
+
+    private static long score(LeaderboardScoreProjection row) {
+        return row.getWeightedScore() == null ? 0L : row.getWeightedScore();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.warn("Class leaderboard update failed", e);
+                }
+            }
+        });
+    }
+
+    public record Standing(int totalStudents, List<RankedScoreTree.Ranked> top, Integer rank, Long score) {
+    }
+
+    private static final class Board {
+        private final Map<Integer, Long> scores = new HashMap<>();
+        private final RankedScoreTree tree = new RankedScoreTree();
+        private final long expiresAt;
+
+        Board(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return expiresAt < System.currentTimeMillis();
+        }
+
+        synchronized void put(Integer studentId, long score) {
+            Long previous = scores.put(studentId, score);
+            if (previous != null) {
+                tree.remove(studentId, previous);
+            }
+            tree.insert(studentId, score);
+        }
+
+        synchronized void remove(Integer studentId) {
+            Long previous = scores.remove(studentId);
+            if (previous != null) {
+                tree.remove(studentId, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.course.service;
+
+import com.course.dto.classroom.ClassLeaderboardResponse;
+import com.course.dto.classroom.LeaderboardEntryResponse;
+import com.course.entity.RoleName;
+import com.course.entity.User;
+import com.course.exception.ForbiddenOperationException;
+import com.course.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClassLeaderboardService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+
+    private final AuthService authService;
+    private final StudyClassService classService;
+    private final ClassStudentService classStudentService;
+    private final UserRepository userRepository;
+    private final ClassLeaderboardIndex leaderboardIndex;
+
+    public ClassLeaderboardResponse getLeaderboard(Integer classId, Integer limit) {
+        User current = authService.getCurrentUserEntity();
+        RoleName role = current != null && current.getRole() != null ? current.getRole().getRolename() : null;
+        if (role == null) {
+            throw new ForbiddenOperationException("Unauthenticated");
+        }
+
+        if (RoleName.STUDENT == role) {
+            classStudentService.assertStudentInClass(current.getId(), classId, "Student can view leaderboard only for own classes");
+        } else if (RoleName.TEACHER == role || RoleName.METHODIST == role) {
+            classService.getMyClassById(classId);
+        }
+
+        int size = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        Integer studentId = RoleName.STUDENT == role ? current.getId() : null;
+        ClassLeaderboardIndex.Standing standing = leaderboardIndex.standing(classId, studentId, size);
+
+        Map<Integer, String> names = new HashMap<>();
+        List<Integer> ids = new ArrayList<>(standing.top().stream().map(RankedScoreTree.Ranked::studentId).toList());
+        if (studentId != null) {
+            ids.add(studentId);
+        }
+        userRepository.findAllById(ids).forEach(u -> names.put(u.getId(), u.getName()));
+
+        List<LeaderboardEntryResponse> top = new ArrayList<>();
+        int rank = 0;
+        Long previous = null;
+        for (int i = 0; i < standing.top().size(); i++) {
+            RankedScoreTree.Ranked r = standing.top().get(i);
+            if (previous == null || previous != r.score()) {
+                rank = i + 1;
+                previous = r.score();
+            }
+            top.add(new LeaderboardEntryResponse(rank, r.studentId(), names.get(r.studentId()), r.score()));
+        }
+
+        LeaderboardEntryResponse me = standing.rank() == null
+                ? null
+                : new LeaderboardEntryResponse(standing.rank(), studentId, names.get(studentId), standing.score());
+
+        return new ClassLeaderboardResponse(classId, standing.totalStudents(), top, me);
+    }
+}
@@ -17,13 +17,15 @@ import java.util.List;
 public class ClassOpenedLessonService {
 
     private final ClassOpenedLessonRepository classOpenedLessonRepository;
+    private final StudentAccessContext studentAccessContext;
+    private final StudentCoursePageCache coursePageCache;
 
     @Transactional(readOnly = true)
     public boolean isLessonOpenedForStudent(Integer studentId, Integer lessonId) {
         if (studentId == null || lessonId == null) {
             return false;
         }
-        return classOpenedLessonRepository.isLessonOpenedForStudent(studentId, lessonId);
+        return studentAccessContext.isLessonOpened(studentId, lessonId);
     }
 
     @Transactional(readOnly = true)
@@ -62,5 +64,7 @@ public class ClassOpenedLessonService {
         rec.setStudyClass(studyClass);
         rec.setLesson(lesson);
         classOpenedLessonRepository.save(rec);
+        studentAccessContext.evictAll();
+        coursePageCache.evictCourse(studyClass.getCourse() != null ? studyClass.getCourse().getId() : null);
     }
 }
@@ -16,13 +16,15 @@ import java.util.List;
 public class ClassOpenedTestService {
 
     private final ClassOpenedTestRepository classOpenedTestRepository;
+    private final StudentAccessContext studentAccessContext;
+    private final StudentCoursePageCache coursePageCache;
 
     @Transactional(readOnly = true)
     public boolean isTestOpenedForStudent(Integer studentId, Integer testId) {
         if (studentId == null || testId == null) {
             return false;
         }
-        return classOpenedTestRepository.isTestOpenedForStudent(studentId, testId);
+        return studentAccessContext.isTestOpened(studentId, testId);
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +62,8 @@ public class ClassOpenedTestService {
         rec.setStudyClass(studyClass);
         rec.setTest(test);
         classOpenedTestRepository.save(rec);
+        studentAccessContext.evictAll();
+        coursePageCache.evictCourse(studyClass.getCourse() != null ? studyClass.getCourse().getId() : null);
     }
 
     @Transactional(readOnly = true)
@@ -22,6 +22,9 @@ import com.course.dto.user.UserResponse;
 public class ClassStudentService {
 
     private final ClassStudentRepository classStudentRepository;
+    private final StudentAccessContext studentAccessContext;
+    private final StudentCoursePageCache coursePageCache;
+    private final ClassLeaderboardIndex leaderboardIndex;
 
     private final StudyClassService classService;
     private final AuthService authService;
@@ -35,7 +38,7 @@ public class ClassStudentService {
         if (studentId == null || classId == null) {
             return false;
         }
-        return classStudentRepository.existsByStudyClassIdAndStudentId(classId, studentId);
+        return studentAccessContext.isEnrolledInClass(studentId, classId);
     }
 
     public void assertStudentInClass(Integer studentId, Integer classId, String message) {
@@ -79,7 +82,7 @@ public class ClassStudentService {
         if (studentId == null || courseId == null) {
             return false;
         }
-        return classStudentRepository.existsStudentInCourse(studentId, courseId);
+        return studentAccessContext.isEnrolledInCourse(studentId, courseId);
     }
 
     public boolean isCourseClosedForStudent(Integer studentId, Integer courseId) {
@@ -121,6 +124,20 @@ public class ClassStudentService {
         }
     }
 
+    public void assertStudentsInTeacherCourse(java.util.Collection<Integer> studentIds, Integer teacherId, Integer courseId, String message) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return;
+        }
+        if (teacherId == null || courseId == null) {
+            throw new ForbiddenOperationException(message);
+        }
+        java.util.Set<Integer> allowed = new java.util.HashSet<>(
+                classStudentRepository.findStudentIdsInTeacherCourse(studentIds, teacherId, courseId));
+        if (!allowed.containsAll(studentIds)) {
+            throw new ForbiddenOperationException(message);
+        }
+    }
+
     public boolean existsStudentInMethodistCourses(Integer studentId, Integer methodistId) {
         if (studentId == null || methodistId == null) {
             return false;
@@ -265,6 +282,9 @@ public class ClassStudentService {
                         "Student with id " + studentId + " is not enrolled in class " + classId));
 
         classStudentRepository.delete(cs);
+        studentAccessContext.evict(studentId);
+        coursePageCache.evictStudent(studentId);
+        leaderboardIndex.removeMember(classId, studentId);
     }
 
 
@@ -311,6 +331,7 @@ public class ClassStudentService {
         if (cs.getCourseClosedAt() == null) {
             cs.setCourseClosedAt(java.time.LocalDateTime.now());
             classStudentRepository.save(cs);
+            coursePageCache.evictStudent(studentId);
         }
     }
 
@@ -0,0 +1,195 @@
+package com.course.service;
+
+import com.course.dto.course.CourseCloneRequest;
+import com.course.dto.course.CourseCloneResponse;
+import com.course.entity.Course;
+import com.course.entity.RoleName;
+import com.course.entity.User;
+import com.course.exception.ForbiddenOperationException;
+import com.course.exception.ServiceBusyException;
+import com.course.repository.ClonedFileRefProjection;
+import com.course.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CourseCloneService {
+
+    private static final String COPY_SUFFIX = " (copy)";
+    private static final int MAX_NAME_LENGTH = 127;
+
+    private final CourseRepository courseRepository;
+    private final CourseService courseService;
+    private final AuthService authService;
+    private final UserService userService;
+    private final LessonPresentationStorageService presentationStorageService;
+    private final AchievementPhotoStorageService photoStorageService;
+    private final ObjectMapper objectMapper;
+    private final BlockingWorkOffloader offloader;
+    private final TransactionTemplate transactionTemplate;
+
+    private record ClonedCourse(Integer targetId,
+                                int lessons,
+                                int questions,
+                                int achievements,
+                                List<ClonedFileRefProjection> presentations,
+                                List<ClonedFileRefProjection> photos) {
+    }
+
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CourseCloneResponse cloneCourse(Integer sourceId, CourseCloneRequest dto) {
+        ClonedCourse clone = transactionTemplate.execute(status -> cloneRows(sourceId, dto));
+        Integer targetId = clone.targetId();
+
+        List<CompletableFuture<String>> presentationCopies = clone.presentations().stream()
+                .map(ref -> copy(ref, () -> presentationStorageService.copyToCourse(ref.getUrl(), targetId)))
+                .toList();
+        List<CompletableFuture<String>> photoCopies = clone.photos().stream()
+                .map(ref -> copy(ref, () -> photoStorageService.copyToCourse(ref.getUrl(), targetId)))
+                .toList();
+
+        List<String> copiedPresentations = new ArrayList<>();
+        ArrayNode presentationRows = objectMapper.createArrayNode();
+        for (int i = 0; i < presentationCopies.size(); i++) {
+            ClonedFileRefProjection ref = clone.presentations().get(i);
+            String url = presentationCopies.get(i).join();
+            if (url == null) {
+                continue;
+            }
+            if (!url.equals(ref.getUrl())) {
+                copiedPresentations.add(url);
+            }
+            presentationRows.addObject()
+                    .put("id", ref.getId())
+                    .put("source_id", ref.getSourceId())
+                    .put("source_url", ref.getUrl())
+                    .put("url", url);
+        }
+        List<String> copiedPhotos = new ArrayList<>();
+        ArrayNode photoRows = objectMapper.createArrayNode();
+        for (int i = 0; i < photoCopies.size(); i++) {
+            ClonedFileRefProjection ref = clone.photos().get(i);
+            String url = photoCopies.get(i).join();
+            if (url == null) {
+                continue;
+            }
+            if (!url.equals(ref.getUrl())) {
+                copiedPhotos.add(url);
+            }
+            photoRows.addObject().put("id", ref.getId()).put("url", url);
+        }
+
+        return transactionTemplate.execute(status -> {
+            deleteCopiesOnRollback(copiedPresentations, copiedPhotos);
+            if (!presentationRows.isEmpty()) {
+                courseRepository.updateLessonPresentations(targetId, toJson(presentationRows));
+            }
+            if (!photoRows.isEmpty()) {
+                courseRepository.updateAchievementPhotos(targetId, toJson(photoRows));
+            }
+            return new CourseCloneResponse(
+                    sourceId,
+                    courseService.getById(targetId),
+                    clone.lessons(),
+                    courseRepository.countActivities(targetId),
+                    clone.questions(),
+                    clone.achievements(),
+                    copiedPresentations.size() + copiedPhotos.size()
+            );
+        });
+    }
+
+    private ClonedCourse cloneRows(Integer sourceId, CourseCloneRequest dto) {
+        User current = authService.getCurrentUserEntity();
+        userService.assertUserEntityHasRole(current, RoleName.METHODIST);
+
+        Course source = courseService.getEntityById(sourceId);
+        if (source.getCreatedBy() == null || !current.getId().equals(source.getCreatedBy().getId())) {
+            throw new ForbiddenOperationException("Only course creator can clone this course");
+        }
+        boolean withPresentations = dto == null || dto.getCopyPresentations() == null || dto.getCopyPresentations();
+
+        Course course = new Course();
+        course.setName(dto != null && dto.getName() != null ? dto.getName().trim() : copyName(source.getName()));
+        course.setDescription(dto != null && dto.getDescription() != null ? dto.getDescription() : source.getDescription());
+        course.setCreatedBy(current);
+        Integer targetId = courseRepository.save(course).getId();
+
+        int lessons = courseRepository.cloneLessons(sourceId, targetId, current.getId());
+        int questions = courseRepository.cloneActivitiesWithQuestions(sourceId, targetId, current.getId());
+        int achievements = courseRepository.cloneAchievements(sourceId, targetId, current.getId());
+
+        return new ClonedCourse(
+                targetId,
+                lessons,
+                questions,
+                achievements,
+                withPresentations ? courseRepository.findClonedLessonPresentations(sourceId, targetId) : List.of(),
+                courseRepository.findClonedAchievementPhotos(sourceId, targetId)
+        );
+    }
+
+    private CompletableFuture<String> copy(ClonedFileRefProjection ref, Supplier<String> task) {
+        CompletableFuture<String> copy;
+        try {
+            copy = offloader.storage(task);
+        } catch (ServiceBusyException e) {
+            copy = CompletableFuture.supplyAsync(task, Runnable::run);
+        }
+        return copy.exceptionally(e -> {
+            log.warn("Failed to copy file {} for cloned row {}: {}", ref.getUrl(), ref.getId(), e.getMessage());
+            return null;
+        });
+    }
+
+    private static String copyName(String name) {
+        String base = name.length() + COPY_SUFFIX.length() > MAX_NAME_LENGTH
+                ? name.substring(0, MAX_NAME_LENGTH - COPY_SUFFIX.length()).trim()
+                : name;
+        return base + COPY_SUFFIX;
+    }
+
+
+    private void deleteCopiesOnRollback(List<String> presentations, List<String> photos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                presentations.forEach(presentationStorageService::deleteByPublicUrl);
+                photos.forEach(photoStorageService::deleteByPublicUrl);
+            }
+        });
+    }
+
+    private String toJson(ArrayNode rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize cloned file references", e);
+        }
+    }
+}
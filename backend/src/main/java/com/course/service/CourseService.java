@@ -29,6 +29,7 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final AuthService authService;
     private final UserService userService;
+    private final StudentCoursePageCache coursePageCache;
 
     public CourseResponse create(@Valid @NotNull CourseUpsertRequest dto) {
         User current = authService.getCurrentUserEntity();
@@ -58,6 +59,17 @@ public class CourseService {
         return courseRepository.findAll().stream().map(this::toDto).toList();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getByIdVersion(Integer id) {
+        Course course = getEntityById(id);
+        return ResourceVersion.of(course.getUpdatedAt(), "course", course.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getAllVersion() {
+        return ResourceVersion.ofAggregate("courses", courseRepository.stampAll());
+    }
+
     public CourseResponse update(@NotNull Integer id, @Valid @NotNull CourseUpsertRequest dto) {
         User current = authService.getCurrentUserEntity();
         userService.assertUserEntityHasRole(current, ROLE_METHODIST);
@@ -68,7 +80,9 @@ public class CourseService {
         course.setName(dto.getName());
         course.setDescription(dto.getDescription());
 
-        return toDto(courseRepository.save(course));
+        Course saved = courseRepository.save(course);
+        coursePageCache.evictCourse(saved.getId());
+        return toDto(saved);
     }
 
     public void delete(@NotNull Integer id) {
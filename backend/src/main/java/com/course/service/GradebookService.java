@@ -0,0 +1,220 @@
+package com.course.service;
+
+import com.course.dto.statistics.ClassGradebookResponse;
+import com.course.dto.statistics.GradebookColumnResponse;
+import com.course.dto.statistics.GradebookRowResponse;
+import com.course.entity.RoleName;
+import com.course.entity.StudyClass;
+import com.course.entity.User;
+import com.course.exception.ForbiddenOperationException;
+import com.course.repository.GradebookCellProjection;
+import com.course.repository.GradebookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GradebookService {
+
+    private final AuthService authService;
+    private final StudyClassService studyClassService;
+    private final GradebookRepository gradebookRepository;
+
+    public ClassGradebookResponse getClassGradebook(Integer classId) {
+        StudyClass studyClass = getAccessibleClass(classId);
+        Integer courseId = studyClass.getCourse().getId();
+
+        List<GradebookColumnResponse> columns = loadColumns(courseId);
+        List<GradebookRowResponse> rows = new ArrayList<>();
+        assembleRows(gradebookRepository.findCells(classId, courseId).iterator(), columns, rows::add);
+
+        return new ClassGradebookResponse(
+                studyClass.getId(),
+                studyClass.getName(),
+                courseId,
+                columns,
+                rows,
+                weightedMaxTotal(columns)
+        );
+    }
+
+    
+    public CsvExport prepareCsvExport(Integer classId) {
+        StudyClass studyClass = getAccessibleClass(classId);
+        Integer courseId = studyClass.getCourse().getId();
+        return new CsvExport(classId, courseId, loadColumns(courseId), "gradebook_class_" + classId + ".csv");
+    }
+
+    
+    public void writeCsv(CsvExport export, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        List<GradebookColumnResponse> columns = export.columns();
+
+        writer.write("studentId,studentName");
+        for (GradebookColumnResponse c : columns) {
+            String title = c.getTitle() == null ? ("#" + c.getActivityId()) : c.getTitle();
+            writer.write(',' + csv(title + " (best)"));
+            writer.write(',' + csv(title + " (latest)"));
+            writer.write(',' + csv(title + " (weighted)"));
+        }
+        writer.write(",weightedTotal,weightedMaxTotal\n");
+
+        int weightedMax = weightedMaxTotal(columns);
+        try (Stream<GradebookCellProjection> cells = gradebookRepository.streamCells(export.classId(), export.courseId())) {
+            assembleRows(cells.iterator(), columns, row -> {
+                try {
+                    writeCsvRow(writer, row, columns.size(), weightedMax);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private StudyClass getAccessibleClass(Integer classId) {
+        User current = authService.getCurrentUserEntity();
+        StudyClass sc = studyClassService.getEntityById(classId);
+
+        if (isRole(current, RoleName.TEACHER)) {
+            if (sc.getTeacher() == null || sc.getTeacher().getId() == null || !sc.getTeacher().getId().equals(current.getId())) {
+                throw new ForbiddenOperationException("Teacher can view gradebook only for own classes");
+            }
+        } else if (isRole(current, RoleName.METHODIST)) {
+            if (sc.getCreatedBy() == null || sc.getCreatedBy().getId() == null || !sc.getCreatedBy().getId().equals(current.getId())) {
+                throw new ForbiddenOperationException("Methodist can view gradebook only for own classes");
+            }
+        } else if (!isRole(current, RoleName.ADMIN)) {
+            throw new ForbiddenOperationException("Access denied");
+        }
+
+        if (sc.getCourse() == null || sc.getCourse().getId() == null) {
+            throw new ForbiddenOperationException("Class has no course");
+        }
+        return sc;
+    }
+
+    private List<GradebookColumnResponse> loadColumns(Integer courseId) {
+        return gradebookRepository.findColumns(courseId).stream()
+                .map(p -> new GradebookColumnResponse(
+                        p.getTestId(),
+                        p.getTitle(),
+                        p.getActivityType(),
+                        p.getLessonId(),
+                        p.getWeightMultiplier(),
+                        p.getMaxPoints() == null ? 0 : p.getMaxPoints().intValue()
+                ))
+                .toList();
+    }
+
+    
+    private static void assembleRows(Iterator<GradebookCellProjection> cells,
+                                     List<GradebookColumnResponse> columns,
+                                     Consumer<GradebookRowResponse> sink) {
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            index.put(columns.get(i).getActivityId(), i);
+        }
+
+        GradebookRowResponse row = null;
+        while (cells.hasNext()) {
+            GradebookCellProjection cell = cells.next();
+            if (row == null || !Objects.equals(row.getStudentId(), cell.getStudentId())) {
+                if (row != null) {
+                    sink.accept(row);
+                }
+                row = emptyRow(cell.getStudentId(), cell.getStudentName(), columns.size());
+            }
+
+            Integer i = cell.getTestId() == null ? null : index.get(cell.getTestId());
+            if (i == null) {
+                continue;
+            }
+            int weight = columns.get(i).getWeightMultiplier() == null ? 1 : columns.get(i).getWeightMultiplier();
+            int latest = cell.getLatestScore() == null ? 0 : cell.getLatestScore();
+
+            row.getBest().set(i, cell.getBestScore());
+            row.getLatest().set(i, cell.getLatestScore());
+            row.getWeighted().set(i, latest * weight);
+            row.setWeightedTotal(row.getWeightedTotal() + latest * weight);
+        }
+        if (row != null) {
+            sink.accept(row);
+        }
+    }
+
+    private static GradebookRowResponse emptyRow(Integer studentId, String studentName, int size) {
+        return new GradebookRowResponse(
+                studentId,
+                studentName,
+                Arrays.asList(new Integer[size]),
+                Arrays.asList(new Integer[size]),
+                Arrays.asList(new Integer[size]),
+                0
+        );
+    }
+
+    private static int weightedMaxTotal(List<GradebookColumnResponse> columns) {
+        int total = 0;
+        for (GradebookColumnResponse c : columns) {
+            int weight = c.getWeightMultiplier() == null ? 1 : c.getWeightMultiplier();
+            total += (c.getMaxPoints() == null ? 0 : c.getMaxPoints()) * weight;
+        }
+        return total;
+    }
+
+    private static void writeCsvRow(Writer writer, GradebookRowResponse row, int size, int weightedMax) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append(csv(row.getStudentId())).append(',').append(csv(row.getStudentName()));
+        for (int i = 0; i < size; i++) {
+            sb.append(',').append(csv(row.getBest().get(i)));
+            sb.append(',').append(csv(row.getLatest().get(i)));
+            sb.append(',').append(csv(row.getWeighted().get(i)));
+        }
+        sb.append(',').append(row.getWeightedTotal()).append(',').append(weightedMax).append('\n');
+        writer.write(sb.toString());
+    }
+
+    private static String csv(Object v) {
+        if (v == null) {
+            return "";
+        }
+        String s = String.valueOf(v);
+        boolean needsQuotes = s.contains(",") || s.contains("\n") || s.contains("\r") || s.contains("\"");
+        if (needsQuotes) {
+            s = s.replace("\"", "\"\"");
+            return '"' + s + '"';
+        }
+        return s;
+    }
+
+    private static boolean isRole(User user, RoleName role) {
+        return user != null
+                && user.getRole() != null
+                && user.getRole().getRolename() == role;
+    }
+
+    public record CsvExport(Integer classId, Integer courseId, List<GradebookColumnResponse> columns, String filename) {
+    }
+}
@@ -4,6 +4,7 @@ import com.course.dto.lesson.LessonPresentationInfoResponse;
 import com.course.entity.Lesson;
 import com.course.exception.LessonPresentationNotFoundException;
 import com.course.exception.LessonPresentationValidationException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -21,6 +22,7 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -34,7 +36,10 @@ public class LessonPresentationSlideService {
 
     private final LessonService lessonService;
     private final LessonPresentationStorageService storageService;
+    private final BlockingWorkOffloader offloader;
+    private final LessonSlideIndexService slideIndexService;
 
+    @Timed(value = "app.pdf.page.count", description = "Lesson presentation page counting")
     public LessonPresentationInfoResponse getPresentationInfo(Integer lessonId) {
         Lesson lesson = lessonService.getEntityByIdForCurrentUser(lessonId);
 
@@ -42,11 +47,17 @@ public class LessonPresentationSlideService {
             return new LessonPresentationInfoResponse(false, 0);
         }
 
+        int indexed = slideIndexService.countIndexedPages(lesson.getId(), lesson.getPresentationUrl());
+        if (indexed > 0) {
+            return new LessonPresentationInfoResponse(true, indexed);
+        }
+
         int pages = getPageCount(lesson);
         return new LessonPresentationInfoResponse(true, pages);
     }
 
-    public ResponseEntity<byte[]> renderPageAsPng(Integer lessonId, int pageNumber, Integer dpi) {
+    @Timed(value = "app.pdf.slide.render", description = "Lesson presentation page rendering", percentiles = {0.5, 0.95, 0.99})
+    public CompletableFuture<ResponseEntity<byte[]>> renderPageAsPng(Integer lessonId, int pageNumber, Integer dpi) {
         Lesson lesson = lessonService.getEntityByIdForCurrentUser(lessonId);
 
         if (!StringUtils.hasText(lesson.getPresentationUrl())) {
@@ -58,11 +69,18 @@ public class LessonPresentationSlideService {
             throw new LessonPresentationValidationException("Invalid dpi. Allowed range: " + MIN_DPI + ".." + MAX_DPI);
         }
 
-        byte[] pdfBytes = storageService.downloadByPublicUrl(lesson.getPresentationUrl());
+        String presentationUrl = lesson.getPresentationUrl();
+        return offloader.render(() -> renderStoredPage(presentationUrl, pageNumber, actualDpi));
+    }
+
+    
+    private ResponseEntity<byte[]> renderStoredPage(String presentationUrl, int pageNumber, int dpi) {
+        byte[] pdfBytes = storageService.downloadByPublicUrl(presentationUrl);
         if (pdfBytes == null || pdfBytes.length == 0) {
             throw new LessonPresentationNotFoundException("Lesson presentation not found");
         }
 
+        BlockingWorkOffloader.RenderPermit permit = offloader.acquireRenderPermit();
         try (PDDocument doc = Loader.loadPDF(pdfBytes)) {
             int pageCount = doc.getNumberOfPages();
             if (pageCount <= 0) {
@@ -72,12 +90,7 @@ public class LessonPresentationSlideService {
                 throw new LessonPresentationValidationException("Page number is out of range (1.." + pageCount + ")");
             }
 
-            PDFRenderer renderer = new PDFRenderer(doc);
-            BufferedImage image = renderer.renderImageWithDPI(pageNumber - 1, actualDpi, ImageType.RGB);
-
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            ImageIO.write(image, "png", out);
-            byte[] bytes = out.toByteArray();
+            byte[] bytes = renderPageToPng(doc, pageNumber, dpi);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.IMAGE_PNG);
@@ -88,19 +101,33 @@ public class LessonPresentationSlideService {
                     .body(bytes);
         } catch (IOException e) {
             throw new LessonPresentationValidationException("Failed to process PDF presentation");
+        } finally {
+            permit.close();
         }
     }
 
+    static byte[] renderPageToPng(PDDocument doc, int pageNumber, int dpi) throws IOException {
+        PDFRenderer renderer = new PDFRenderer(doc);
+        BufferedImage image = renderer.renderImageWithDPI(pageNumber - 1, dpi, ImageType.RGB);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
     private int getPageCount(Lesson lesson) {
         byte[] pdfBytes = storageService.downloadByPublicUrl(lesson.getPresentationUrl());
         if (pdfBytes == null || pdfBytes.length == 0) {
             throw new LessonPresentationNotFoundException("Lesson presentation not found");
         }
 
+        BlockingWorkOffloader.RenderPermit permit = offloader.acquireRenderPermit();
         try (PDDocument doc = Loader.loadPDF(pdfBytes)) {
             return Math.max(doc.getNumberOfPages(), 0);
         } catch (IOException e) {
             throw new LessonPresentationValidationException("Failed to process PDF presentation");
+        } finally {
+            permit.close();
         }
     }
 }
@@ -10,6 +10,7 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -64,6 +65,31 @@ public class LessonPresentationStorageService {
         s3Client.deleteObject(req);
     }
 
+    
+    public String copyToCourse(String publicUrl, Integer courseId) {
+        String key = extractKeyFromPublicUrlOrNull(publicUrl);
+        if (!StringUtils.hasText(key)) {
+            return publicUrl;
+        }
+
+        String targetKey = "lessons/course-" + courseId + "/presentations/" + UUID.randomUUID() + ".pdf";
+        try {
+            CopyObjectRequest req = CopyObjectRequest.builder()
+                    .sourceBucket(props.getBucket())
+                    .sourceKey(key)
+                    .destinationBucket(props.getBucket())
+                    .destinationKey(targetKey)
+                    .build();
+            s3Client.copyObject(req);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw new LessonPresentationValidationException("Failed to copy lesson presentation");
+        }
+        return buildPublicUrl(targetKey);
+    }
+
     public byte[] downloadByPublicUrl(String publicUrl) {
         if (!StringUtils.hasText(publicUrl)) {
             throw new LessonPresentationNotFoundException("Lesson presentation not found");
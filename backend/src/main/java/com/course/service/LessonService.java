@@ -43,6 +43,8 @@ public class LessonService {
     private final ClassOpenedLessonService classOpenedLessonService;
     private final StudyClassService studyClassService;
     private final LessonPresentationStorageService presentationStorageService;
+    private final LessonSlideIndexer slideIndexer;
+    private final StudentCoursePageCache coursePageCache;
 
     public LessonResponse create(@NotNull Integer courseId, @Valid @NotNull LessonUpsertForm form) {
         User current = authService.getCurrentUserEntity();
@@ -81,6 +83,7 @@ public class LessonService {
         lesson.setOrderIndex(appendIndex);
 
         Lesson saved = lessonRepository.save(lesson);
+        slideIndexer.indexAfterCommit(saved.getId(), url, form.getPresentation());
 
         Integer desired = form.getOrderIndex();
         if (desired != null && desired > 0 && desired != appendIndex) {
@@ -112,28 +115,24 @@ public class LessonService {
 
     @Transactional(readOnly = true)
     public List<LessonResponse> listByCourse(Integer courseId) {
-        Course course = courseService.getEntityById(courseId);
-
-        User current = authService.getCurrentUserEntity();
-        if (isRole(current, ROLE_METHODIST)) {
-            User owner = course.getCreatedBy();
-            if (owner == null || owner.getId() == null || current.getId() == null || !owner.getId().equals(current.getId())) {
-                throw new LessonAccessDeniedException("Methodist can access only own courses");
-            }
-        } else if (isRole(current, ROLE_TEACHER)) {
-            studyClassService.assertTeacherCanManageCourse(courseId, current);
-        } else if (isRole(current, ROLE_STUDENT)) {
-            classStudentService.assertStudentInCourse(
-                    current.getId(),
-                    courseId,
-                    "Student does not belong to this course"
-            );
-        }
+        assertCanListCourseLessons(courseService.getEntityById(courseId));
 
         return lessonRepository.findAllByCourse_IdOrderByOrderIndexAsc(courseId)
                 .stream().map(this::toDto).toList();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion listByCourseVersion(Integer courseId) {
+        assertCanListCourseLessons(courseService.getEntityById(courseId));
+        return ResourceVersion.ofAggregate("lessons", lessonRepository.stampByCourse(courseId), courseId);
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getByIdVersion(@NotNull Integer id) {
+        Lesson lesson = getEntityByIdForCurrentUser(id);
+        return ResourceVersion.of(lesson.getUpdatedAt(), "lesson", lesson.getId());
+    }
+
     @Transactional(readOnly = true)
     public List<Integer> listOpenClassIdsForLesson(Integer lessonId) {
         Lesson lesson = getEntityById(lessonId);
@@ -184,6 +183,7 @@ public class LessonService {
         lesson.setDescription(description);
 
         Lesson saved = lessonRepository.save(lesson);
+        coursePageCache.evictCourse(saved.getCourse() != null ? saved.getCourse().getId() : null);
 
         Integer desiredOrder = dto.getOrderIndex();
         if (desiredOrder != null && desiredOrder > 0) {
@@ -236,9 +236,11 @@ public class LessonService {
         }
 
         Lesson saved = lessonRepository.save(lesson);
+        coursePageCache.evictCourse(saved.getCourse() != null ? saved.getCourse().getId() : null);
 
         if (hasNewFile) {
             presentationStorageService.deleteByPublicUrl(oldUrl);
+            slideIndexer.indexAfterCommit(saved.getId(), saved.getPresentationUrl(), file);
         }
 
         Integer desiredOrder = form.getOrderIndex();
@@ -269,7 +271,9 @@ public class LessonService {
         lesson.setPresentationUrl(newUrl);
 
         Lesson saved = lessonRepository.save(lesson);
+        coursePageCache.evictCourse(saved.getCourse() != null ? saved.getCourse().getId() : null);
         presentationStorageService.deleteByPublicUrl(oldUrl);
+        slideIndexer.indexAfterCommit(saved.getId(), newUrl, presentation);
         return toDto(saved);
     }
 
@@ -283,6 +287,7 @@ public class LessonService {
         String oldUrl = lesson.getPresentationUrl();
         lesson.setPresentationUrl(null);
         Lesson saved = lessonRepository.save(lesson);
+        coursePageCache.evictCourse(saved.getCourse() != null ? saved.getCourse().getId() : null);
 
         presentationStorageService.deleteByPublicUrl(oldUrl);
         return toDto(saved);
@@ -301,6 +306,7 @@ public class LessonService {
         if (courseId != null) {
             normalizeCourseOrder(courseId);
         }
+        coursePageCache.evictCourse(courseId);
         presentationStorageService.deleteByPublicUrl(oldUrl);
     }
 
@@ -332,6 +338,25 @@ public class LessonService {
         }
     }
 
+    private void assertCanListCourseLessons(Course course) {
+        Integer courseId = course.getId();
+        User current = authService.getCurrentUserEntity();
+        if (isRole(current, ROLE_METHODIST)) {
+            User owner = course.getCreatedBy();
+            if (owner == null || owner.getId() == null || current.getId() == null || !owner.getId().equals(current.getId())) {
+                throw new LessonAccessDeniedException("Methodist can access only own courses");
+            }
+        } else if (isRole(current, ROLE_TEACHER)) {
+            studyClassService.assertTeacherCanManageCourse(courseId, current);
+        } else if (isRole(current, ROLE_STUDENT)) {
+            classStudentService.assertStudentInCourse(
+                    current.getId(),
+                    courseId,
+                    "Student does not belong to this course"
+            );
+        }
+    }
+
     private void assertCanViewLesson(User current, Lesson lesson) {
         if (current == null || lesson == null || lesson.getCourse() == null) {
             throw new LessonAccessDeniedException("Forbidden");
@@ -0,0 +1,60 @@
+package com.course.service;
+
+import com.course.repository.LessonSlideTextRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LessonSlideIndexService {
+
+    private static final int EMPTY_INDEX_PAGE = 0;
+
+    private final LessonSlideTextRepository slideTextRepository;
+    private final ObjectMapper objectMapper;
+
+    
+    public boolean storePages(Integer lessonId, String presentationUrl, List<String> pages) {
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 0; i < pages.size(); i++) {
+            rows.addObject()
+                    .put("page_number", i + 1)
+                    .put("content", pages.get(i));
+        }
+        if (pages.isEmpty()) {
+            rows.addObject()
+                    .put("page_number", EMPTY_INDEX_PAGE)
+                    .put("content", "");
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize slide texts", e);
+        }
+
+        int stored = slideTextRepository.upsertPages(lessonId, presentationUrl, json);
+        if (stored == 0) {
+            return false;
+        }
+        if (pages.isEmpty()) {
+            slideTextRepository.deleteStalePages(lessonId, presentationUrl, EMPTY_INDEX_PAGE, EMPTY_INDEX_PAGE);
+        } else {
+            slideTextRepository.deleteStalePages(lessonId, presentationUrl, 1, pages.size());
+        }
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public int countIndexedPages(Integer lessonId, String presentationUrl) {
+        return (int) slideTextRepository.countByLesson_IdAndPresentationUrlAndPageNumberGreaterThan(
+                lessonId, presentationUrl, EMPTY_INDEX_PAGE);
+    }
+}
@@ -0,0 +1,189 @@
+package com.course.service;
+
+import com.course.config.SlideIndexProperties;
+import com.course.repository.LessonSlideTextRepository;
+import com.course.repository.PresentationRefProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+@Slf4j
+@Component
+public class LessonSlideIndexer {
+
+    private final LessonSlideIndexService indexService;
+    private final LessonSlideTextRepository slideTextRepository;
+    private final LessonPresentationStorageService storageService;
+    private final SlideIndexProperties props;
+    private final ExecutorService executor;
+
+    
+    private final Map<String, Long> failedUrls = new ConcurrentHashMap<>();
+    private final Set<Integer> queuedLessons = ConcurrentHashMap.newKeySet();
+
+    public LessonSlideIndexer(LessonSlideIndexService indexService,
+                              LessonSlideTextRepository slideTextRepository,
+                              LessonPresentationStorageService storageService,
+                              SlideIndexProperties props) {
+        this.indexService = indexService;
+        this.slideTextRepository = slideTextRepository;
+        this.storageService = storageService;
+        this.props = props;
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                new CustomizableThreadFactory("slide-index-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    
+    public void indexAfterCommit(Integer lessonId, String presentationUrl, MultipartFile file) {
+        if (!props.isEnabled() || lessonId == null || presentationUrl == null || file == null || file.isEmpty()) {
+            return;
+        }
+        byte[] pdf;
+        try {
+            pdf = file.getBytes();
+        } catch (IOException e) {
+            log.warn("Cannot read presentation of lesson {} for indexing, leaving it to backfill", lessonId);
+            return;
+        }
+
+        Runnable task = () -> index(lessonId, presentationUrl, pdf);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(lessonId, task);
+                }
+            });
+        } else {
+            submit(lessonId, task);
+        }
+    }
+
+    
+    @Scheduled(
+            initialDelayString = "${app.slide-index.backfill-interval-millis:60000}",
+            fixedDelayString = "${app.slide-index.backfill-interval-millis:60000}"
+    )
+    public void backfill() {
+        if (!props.isEnabled()) {
+            return;
+        }
+        forgetExpiredFailures();
+        int limit = Math.max(1, props.getBackfillBatchSize());
+        List<PresentationRefProjection> pending = slideTextRepository
+                .findLessonsWithoutSlideIndex(limit + failedUrls.size() + queuedLessons.size())
+                .stream()
+                .filter(ref -> !failedUrls.containsKey(ref.getUrl()) && !queuedLessons.contains(ref.getId()))
+                .limit(limit)
+                .toList();
+        for (PresentationRefProjection ref : pending) {
+            Integer lessonId = ref.getId();
+            String url = ref.getUrl();
+            queuedLessons.add(lessonId);
+            if (!submit(lessonId, () -> backfillLesson(lessonId, url))) {
+                queuedLessons.remove(lessonId);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean submit(Integer lessonId, Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.info("Slide index queue is full, lesson {} will be indexed by backfill", lessonId);
+            return false;
+        }
+    }
+
+    private void backfillLesson(Integer lessonId, String presentationUrl) {
+        try {
+            index(lessonId, presentationUrl, storageService.downloadByPublicUrl(presentationUrl));
+        } catch (RuntimeException e) {
+            markFailed(presentationUrl);
+            log.warn("Slide text backfill failed for lesson {}: {}", lessonId, e.getMessage());
+        } finally {
+            queuedLessons.remove(lessonId);
+        }
+    }
+
+    private void markFailed(String presentationUrl) {
+        if (failedUrls.size() >= Math.max(1, props.getMaxFailedUrls())) {
+            failedUrls.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(oldest -> failedUrls.remove(oldest.getKey()));
+        }
+        failedUrls.put(presentationUrl, System.currentTimeMillis());
+    }
+
+    private void forgetExpiredFailures() {
+        long cutoff = System.currentTimeMillis() - props.getFailedRetryMillis();
+        failedUrls.values().removeIf(failedAt -> failedAt < cutoff);
+    }
+
+    private void index(Integer lessonId, String presentationUrl, byte[] pdf) {
+        long started = System.nanoTime();
+        List<String> pages;
+        try {
+            pages = extractPages(pdf, props.getMaxPageChars());
+        } catch (IOException e) {
+            markFailed(presentationUrl);
+            log.warn("Cannot extract text from presentation of lesson {}: {}", lessonId, e.getMessage());
+            return;
+        }
+        if (indexService.storePages(lessonId, presentationUrl, pages)) {
+            log.debug("Indexed {} slides of lesson {} in {} ms",
+                    pages.size(), lessonId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+
+    static List<String> extractPages(byte[] pdf, int maxChars) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            int pageCount = doc.getNumberOfPages();
+            List<String> pages = new ArrayList<>(pageCount);
+            for (int page = 1; page <= pageCount; page++) {
+                stripper.setStartPage(page);
+                stripper.setEndPage(page);
+                String text = stripper.getText(doc).replace("\u0000", "").replaceAll("\\s+", " ").trim();
+                if (maxChars > 0 && text.length() > maxChars) {
+                    text = text.substring(0, maxChars);
+                }
+                pages.add(text);
+            }
+            return pages;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.course.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+
+final class MinHashSignature {
+
+    static final int HASHES = 64;
+    static final int BANDS = 16;
+    static final int ROWS = HASHES / BANDS;
+
+    static final int SHINGLE_SIZE = 5;
+    static final int MIN_TEXT_LENGTH = 16;
+
+
+    private static final long[] SEEDS = new long[HASHES];
+
+    static {
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < HASHES; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            SEEDS[i] = mix(state);
+        }
+    }
+
+    private MinHashSignature() {
+    }
+
+
+    static int[] of(String text) {
+        String normalized = AttemptScoring.normalizeAnswer(text);
+        if (normalized.length() < MIN_TEXT_LENGTH) {
+            return null;
+        }
+
+        Set<Long> shingles = new HashSet<>();
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.add(fnv(normalized, i, i + SHINGLE_SIZE));
+        }
+
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, -1);
+        for (long shingle : shingles) {
+            for (int i = 0; i < HASHES; i++) {
+                int h = (int) (mix(shingle ^ SEEDS[i]) >>> 32);
+                if (Integer.compareUnsigned(h, signature[i]) < 0) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return same / (double) HASHES;
+    }
+
+
+    static long bandKey(int[] signature, int band) {
+        long h = 0xCBF29CE484222325L ^ band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            h = mix(h ^ (signature[i] & 0xFFFFFFFFL));
+        }
+        return h;
+    }
+
+    static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(HASHES * Integer.BYTES);
+        for (int v : signature) {
+            buffer.putInt(v);
+        }
+        return buffer.array();
+    }
+
+    static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != HASHES * Integer.BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    private static long fnv(String s, int from, int to) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = from; i < to; i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB93FE1A85B53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,159 @@
+package com.course.service;
+
+import com.course.entity.OpenAnswerSignature;
+import com.course.entity.TestAttemptAnswer;
+import com.course.entity.TestQuestionType;
+import com.course.repository.OpenAnswerSignatureRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+@Component
+@RequiredArgsConstructor
+public class OpenAnswerSimilarityIndex {
+
+    private final OpenAnswerSignatureRepository signatureRepository;
+    private final ObjectMapper objectMapper;
+
+
+    public void index(Collection<TestAttemptAnswer> answers) {
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (TestAttemptAnswer a : answers) {
+            if (a.getId() == null || a.getQuestion() == null || a.getQuestion().getQuestionType() != TestQuestionType.OPEN) {
+                continue;
+            }
+            int[] signature = MinHashSignature.of(a.getTextAnswer());
+            if (signature != null) {
+                addRow(rows, a, signature);
+            }
+        }
+        store(rows);
+    }
+
+
+    public Map<Integer, int[]> signatures(List<TestAttemptAnswer> answers) {
+        Map<Integer, int[]> stored = new HashMap<>();
+        List<Integer> ids = answers.stream().map(TestAttemptAnswer::getId).toList();
+        for (OpenAnswerSignature s : signatureRepository.findAllByAnswerIdIn(ids)) {
+            int[] signature = MinHashSignature.fromBytes(s.getSignature());
+            if (signature != null) {
+                stored.put(s.getAnswerId(), signature);
+            }
+        }
+
+        Map<Integer, int[]> result = new LinkedHashMap<>();
+        for (TestAttemptAnswer a : answers) {
+            int[] signature = stored.get(a.getId());
+            if (signature == null) {
+                signature = MinHashSignature.of(a.getTextAnswer());
+            }
+            if (signature != null) {
+                result.put(a.getId(), signature);
+            }
+        }
+        return result;
+    }
+
+
+    public List<Group> groups(Map<Integer, int[]> signatures, double threshold) {
+        List<Integer> ids = new ArrayList<>(signatures.keySet());
+        int n = ids.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        double[] minEdge = new double[n];
+        double[] maxEdge = new double[n];
+
+        List<Map<Long, List<Integer>>> buckets = new ArrayList<>(MinHashSignature.BANDS);
+        for (int b = 0; b < MinHashSignature.BANDS; b++) {
+            buckets.add(new HashMap<>());
+        }
+
+        for (int i = 0; i < n; i++) {
+            int[] signature = signatures.get(ids.get(i));
+            Set<Integer> candidates = new LinkedHashSet<>();
+            for (int b = 0; b < MinHashSignature.BANDS; b++) {
+                List<Integer> bucket = buckets.get(b).computeIfAbsent(MinHashSignature.bandKey(signature, b), k -> new ArrayList<>());
+                candidates.addAll(bucket);
+                bucket.add(i);
+            }
+            for (int other : candidates) {
+                if (find(parent, other) == find(parent, i)) {
+                    continue;
+                }
+                double similarity = MinHashSignature.similarity(signatures.get(ids.get(other)), signature);
+                if (similarity < threshold) {
+                    continue;
+                }
+                int ra = find(parent, other);
+                int ri = find(parent, i);
+                boolean raHasEdges = maxEdge[ra] > 0;
+                boolean riHasEdges = maxEdge[ri] > 0;
+                double min = Math.min(similarity, Math.min(raHasEdges ? minEdge[ra] : 1.0, riHasEdges ? minEdge[ri] : 1.0));
+                double max = Math.max(similarity, Math.max(maxEdge[ra], maxEdge[ri]));
+                parent[ri] = ra;
+                minEdge[ra] = min;
+                maxEdge[ra] = max;
+            }
+        }
+
+        Map<Integer, List<Integer>> members = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            members.computeIfAbsent(find(parent, i), r -> new ArrayList<>()).add(ids.get(i));
+        }
+
+        List<Group> result = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> e : members.entrySet()) {
+            if (e.getValue().size() > 1) {
+                result.add(new Group(e.getValue(), minEdge[e.getKey()], maxEdge[e.getKey()]));
+            }
+        }
+        result.sort(Comparator.comparingInt((Group g) -> g.answerIds().size()).reversed()
+                .thenComparing(Comparator.comparingDouble(Group::maxSimilarity).reversed()));
+        return result;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void addRow(ArrayNode rows, TestAttemptAnswer a, int[] signature) {
+        rows.addObject()
+                .put("answer_id", a.getId())
+                .put("question_id", a.getQuestion().getId())
+                .put("signature", Base64.getEncoder().encodeToString(MinHashSignature.toBytes(signature)));
+    }
+
+    private void store(ArrayNode rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            signatureRepository.upsertSignatures(objectMapper.writeValueAsString(rows));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize answer signatures", e);
+        }
+    }
+
+    public record Group(List<Integer> answerIds, double minSimilarity, double maxSimilarity) {
+    }
+}
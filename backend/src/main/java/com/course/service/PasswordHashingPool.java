@@ -0,0 +1,89 @@
+package com.course.service;
+
+import com.course.config.ProvisioningProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+@Component
+public class PasswordHashingPool {
+
+    private static final String PASSWORD_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz23456789";
+    private static final int GENERATED_PASSWORD_LENGTH = 10;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService pool;
+    private final int threads;
+
+    public PasswordHashingPool(PasswordEncoder passwordEncoder, ProvisioningProperties props) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = props.getHashThreads() > 0
+                ? props.getHashThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * 4),
+                new CustomizableThreadFactory("pwd-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    
+    public List<String> encodeAll(List<String> rawPasswords) {
+        if (rawPasswords == null || rawPasswords.isEmpty()) {
+            return List.of();
+        }
+        if (rawPasswords.size() == 1 || threads == 1) {
+            return rawPasswords.stream().map(passwordEncoder::encode).toList();
+        }
+
+        int chunk = Math.max(1, (rawPasswords.size() + threads - 1) / threads);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int from = 0; from < rawPasswords.size(); from += chunk) {
+            List<String> slice = rawPasswords.subList(from, Math.min(from + chunk, rawPasswords.size()));
+            futures.add(pool.submit(() -> slice.stream().map(passwordEncoder::encode).toList()));
+        }
+
+        List<String> result = new ArrayList<>(rawPasswords.size());
+        try {
+            for (Future<List<String>> f : futures) {
+                result.addAll(f.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return result;
+    }
+
+    public String generateTemporaryPassword() {
+        StringBuilder sb = new StringBuilder(GENERATED_PASSWORD_LENGTH);
+        for (int i = 0; i < GENERATED_PASSWORD_LENGTH; i++) {
+            sb.append(PASSWORD_ALPHABET.charAt(RANDOM.nextInt(PASSWORD_ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
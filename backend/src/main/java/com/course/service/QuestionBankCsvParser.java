@@ -0,0 +1,152 @@
+package com.course.service;
+
+import com.course.dto.activity.ActivityQuestionBulkItemRequest;
+import com.course.exception.TestQuestionValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+final class QuestionBankCsvParser {
+
+    static final int MAX_ROWS = 200;
+
+    private QuestionBankCsvParser() {
+    }
+
+    static List<ActivityQuestionBulkItemRequest> parse(InputStream in) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<ActivityQuestionBulkItemRequest> result = new ArrayList<>();
+
+        List<String> header = readRecord(reader, ',');
+        if (header == null) {
+            return result;
+        }
+        if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == '\uFEFF') {
+            header.set(0, header.get(0).substring(1));
+        }
+        char delimiter = ',';
+        if (header.size() == 1 && header.get(0).indexOf(';') >= 0) {
+            delimiter = ';';
+            header = new ArrayList<>(Arrays.asList(header.get(0).split(";", -1)));
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(column(header.get(i)), i);
+        }
+        if (!columns.containsKey("questiontext") || !columns.containsKey("questiontype")) {
+            throw new TestQuestionValidationException("CSV header must contain questionText and questionType columns");
+        }
+
+        List<String> cells;
+        while ((cells = readRecord(reader, delimiter)) != null) {
+            if (cells.size() == 1 && cells.get(0).isBlank()) {
+                continue;
+            }
+            if (result.size() >= MAX_ROWS) {
+                throw new TestQuestionValidationException("Question bank must contain at most " + MAX_ROWS + " questions");
+            }
+            int row = result.size() + 1;
+
+            ActivityQuestionBulkItemRequest item = new ActivityQuestionBulkItemRequest();
+            item.setId(intCell(cells, columns, "id", row));
+            Integer orderIndex = intCell(cells, columns, "orderindex", row);
+            item.setOrderIndex(orderIndex == null ? row : orderIndex);
+            item.setQuestionText(cell(cells, columns, "questiontext"));
+            String type = cell(cells, columns, "questiontype");
+            item.setQuestionType(type == null ? null : type.toUpperCase(Locale.ROOT));
+            item.setPoints(intCell(cells, columns, "points", row));
+            item.setOption1(cell(cells, columns, "option1"));
+            item.setOption2(cell(cells, columns, "option2"));
+            item.setOption3(cell(cells, columns, "option3"));
+            item.setOption4(cell(cells, columns, "option4"));
+            item.setCorrectOption(intCell(cells, columns, "correctoption", row));
+            item.setCorrectTextAnswer(cell(cells, columns, "correcttextanswer"));
+            String accepted = cell(cells, columns, "acceptedtextanswers");
+            item.setAcceptedTextAnswers(accepted == null ? null : Arrays.asList(accepted.split("\\|")));
+            String mode = cell(cells, columns, "textmatchmode");
+            item.setTextMatchMode(mode == null ? null : mode.toUpperCase(Locale.ROOT));
+            item.setTextMaxTypos(intCell(cells, columns, "textmaxtypos", row));
+            result.add(item);
+        }
+        return result;
+    }
+
+    private static String column(String name) {
+        return name.trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", "");
+    }
+
+    private static String cell(List<String> cells, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= cells.size()) {
+            return null;
+        }
+        String v = cells.get(index).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private static Integer intCell(List<String> cells, Map<String, Integer> columns, String name, int row) {
+        String v = cell(cells, columns, name);
+        if (v == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(v);
+        } catch (NumberFormatException e) {
+            throw new TestQuestionValidationException("Question " + row + ": " + name + " must be a number");
+        }
+    }
+
+
+    private static List<String> readRecord(Reader reader, char delimiter) throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        while (c >= 0) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cur.append('"');
+                    } else {
+                        quoted = false;
+                        if (next >= 0) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cur.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == delimiter) {
+                cells.add(cur.toString());
+                cur.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                cur.append(ch);
+            }
+            c = reader.read();
+        }
+        cells.add(cur.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,101 @@
+package com.course.service;
+
+import com.course.dto.activity.ActivityQuestionBulkItemRequest;
+import com.course.dto.activity.ActivityQuestionsBulkResponse;
+import com.course.exception.TestQuestionValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class QuestionBankImportService {
+
+    private final TestService testService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ActivityQuestionsBulkResponse importQuestions(Integer testId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new TestQuestionValidationException("Question bank file is required");
+        }
+
+        List<ActivityQuestionBulkItemRequest> items;
+        try (InputStream in = file.getInputStream()) {
+            items = isJson(file) ? readJson(in) : QuestionBankCsvParser.parse(in);
+        } catch (IOException e) {
+            throw new TestQuestionValidationException("Failed to read question bank file");
+        }
+        if (items.isEmpty()) {
+            throw new TestQuestionValidationException("Question bank file contains no questions");
+        }
+        if (items.size() > QuestionBankCsvParser.MAX_ROWS) {
+            throw new TestQuestionValidationException("Question bank must contain at most " + QuestionBankCsvParser.MAX_ROWS + " questions");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            ActivityQuestionBulkItemRequest item = items.get(i);
+            if (item == null) {
+                errors.add("Question " + (i + 1) + ": data is required");
+                continue;
+            }
+            if (item.getOrderIndex() == null) {
+                item.setOrderIndex(i + 1);
+            }
+            Set<ConstraintViolation<ActivityQuestionBulkItemRequest>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                errors.add("Question " + (i + 1) + ": "
+                        + violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new TestQuestionValidationException(String.join("\n", errors));
+        }
+
+        return testService.bulkUpsertQuestions(testId, items);
+    }
+
+    private static boolean isJson(MultipartFile file) {
+        String contentType = file.getContentType();
+        String name = file.getOriginalFilename();
+        return (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json"))
+                || (name != null && name.toLowerCase(Locale.ROOT).endsWith(".json"));
+    }
+
+    
+    private List<ActivityQuestionBulkItemRequest> readJson(InputStream in) {
+        try {
+            JsonNode root = objectMapper.readTree(in);
+            JsonNode list = root != null && root.isObject() ? root.get("questions") : root;
+            if (list == null || !list.isArray()) {
+                throw new TestQuestionValidationException("JSON question bank must be an array or an object with a questions array");
+            }
+            List<ActivityQuestionBulkItemRequest> items = new ArrayList<>();
+            for (JsonNode node : list) {
+                items.add(node.isNull() ? null : objectMapper.treeToValue(node, ActivityQuestionBulkItemRequest.class));
+            }
+            return items;
+        } catch (JsonProcessingException e) {
+            throw new TestQuestionValidationException("Invalid JSON question bank: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new TestQuestionValidationException("Failed to read question bank file");
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.course.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+final class RankedScoreTree {
+
+    record Ranked(int studentId, long score) {
+    }
+
+    private static final class Node {
+        final int studentId;
+        final long score;
+        final int priority;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(int studentId, long score) {
+            this.studentId = studentId;
+            this.score = score;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(int studentId, long score) {
+        root = insert(root, new Node(studentId, score));
+    }
+
+    void remove(int studentId, long score) {
+        root = remove(root, studentId, score);
+    }
+
+
+    int countAbove(long score) {
+        int count = 0;
+        Node t = root;
+        while (t != null) {
+            if (t.score > score) {
+                count += size(t.left) + 1;
+                t = t.right;
+            } else {
+                t = t.left;
+            }
+        }
+        return count;
+    }
+
+
+    List<Ranked> top(int limit) {
+        List<Ranked> result = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node t = root;
+        while ((t != null || !stack.isEmpty()) && result.size() < limit) {
+            while (t != null) {
+                stack.push(t);
+                t = t.left;
+            }
+            t = stack.pop();
+            result.add(new Ranked(t.studentId, t.score));
+            t = t.right;
+        }
+        return result;
+    }
+
+    private static Node insert(Node t, Node n) {
+        if (t == null) {
+            return n;
+        }
+        if (n.priority > t.priority) {
+            Node[] parts = split(t, n.studentId, n.score);
+            n.left = parts[0];
+            n.right = parts[1];
+            update(n);
+            return n;
+        }
+        if (compare(n.studentId, n.score, t) < 0) {
+            t.left = insert(t.left, n);
+        } else {
+            t.right = insert(t.right, n);
+        }
+        update(t);
+        return t;
+    }
+
+    private static Node remove(Node t, int studentId, long score) {
+        if (t == null) {
+            return null;
+        }
+        int c = compare(studentId, score, t);
+        if (c == 0) {
+            return merge(t.left, t.right);
+        }
+        if (c < 0) {
+            t.left = remove(t.left, studentId, score);
+        } else {
+            t.right = remove(t.right, studentId, score);
+        }
+        update(t);
+        return t;
+    }
+
+
+    private static Node[] split(Node t, int studentId, long score) {
+        if (t == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(studentId, score, t) > 0) {
+            Node[] parts = split(t.right, studentId, score);
+            t.right = parts[0];
+            update(t);
+            return new Node[]{t, parts[1]};
+        }
+        Node[] parts = split(t.left, studentId, score);
+        t.left = parts[1];
+        update(t);
+        return new Node[]{parts[0], t};
+    }
+
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+
+    private static int compare(int studentId, long score, Node t) {
+        if (score != t.score) {
+            return score > t.score ? -1 : 1;
+        }
+        return Integer.compare(studentId, t.studentId);
+    }
+
+    private static void update(Node t) {
+        t.size = size(t.left) + size(t.right) + 1;
+    }
+
+    private static int size(Node t) {
+        return t == null ? 0 : t.size;
+    }
+}
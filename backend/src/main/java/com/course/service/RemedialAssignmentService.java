@@ -28,6 +28,8 @@ public class RemedialAssignmentService {
     private final TestRepository testRepository;
     private final TestAttemptRepository attemptRepository;
     private final StudentRemedialAssignmentRepository assignmentRepository;
+    private final StudentAccessContext studentAccessContext;
+    private final StudentCoursePageCache coursePageCache;
 
     
     public void considerAssignAfterGrading(TestAttempt attempt) {
@@ -107,6 +109,8 @@ public class RemedialAssignmentService {
             a.setCompletedAt(null);
 
             assignmentRepository.save(a);
+            studentAccessContext.evict(studentId);
+            coursePageCache.evictStudent(studentId);
             return;
         }
     }
@@ -0,0 +1,33 @@
+package com.course.service;
+
+import com.course.repository.VersionStampProjection;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+
+public record ResourceVersion(String etag, LocalDateTime lastModified) {
+
+    
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        StringBuilder key = new StringBuilder();
+        for (Object part : parts) {
+            key.append(part).append('|');
+        }
+        key.append(lastModified);
+        String hash = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+        return new ResourceVersion("W/\"" + hash + "\"", lastModified);
+    }
+
+    
+    public static ResourceVersion ofAggregate(String resource, VersionStampProjection stamp, Object... parts) {
+        Object[] all = new Object[parts.length + 4];
+        all[0] = resource;
+        all[1] = stamp != null ? stamp.getRowCount() : null;
+        all[2] = stamp != null ? stamp.getMaxId() : null;
+        all[3] = stamp != null ? stamp.getLastUpdated() : null;
+        System.arraycopy(parts, 0, all, 4, parts.length);
+        return of(null, all);
+    }
+}
@@ -0,0 +1,125 @@
+package com.course.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+
+final class RosterCsvParser {
+
+    static final int MAX_ROWS = 1000;
+
+    record Row(int line, String name, String email, String password, String tgId) {}
+
+    private RosterCsvParser() {
+    }
+
+    static List<Row> parse(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<Row> rows = new ArrayList<>();
+
+        String first = reader.readLine();
+        if (first == null) {
+            return rows;
+        }
+        if (!first.isEmpty() && first.charAt(0) == '\uFEFF') {
+            first = first.substring(1);
+        }
+        char delimiter = first.indexOf(';') >= 0 && first.indexOf(',') < 0 ? ';' : ',';
+
+        
+        int nameCol = 0, emailCol = 1, passwordCol = 2, tgCol = 3;
+        int lineNo = 1;
+        List<String> firstCells = split(first, delimiter);
+        if (isHeader(firstCells)) {
+            nameCol = emailCol = passwordCol = tgCol = -1;
+            for (int i = 0; i < firstCells.size(); i++) {
+                switch (firstCells.get(i).trim().toLowerCase(Locale.ROOT)) {
+                    case "name", "имя", "фио" -> nameCol = i;
+                    case "email", "e-mail", "почта" -> emailCol = i;
+                    case "password", "пароль" -> passwordCol = i;
+                    case "tg_id", "tgid", "telegram" -> tgCol = i;
+                    default -> {
+                    }
+                }
+            }
+            if (nameCol < 0 || emailCol < 0) {
+                throw new IllegalArgumentException("CSV header must contain name and email columns");
+            }
+        } else {
+            addRow(rows, lineNo, firstCells, nameCol, emailCol, passwordCol, tgCol);
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows.size() >= MAX_ROWS) {
+                throw new IllegalArgumentException("CSV roster must contain at most " + MAX_ROWS + " rows");
+            }
+            addRow(rows, lineNo, split(line, delimiter), nameCol, emailCol, passwordCol, tgCol);
+        }
+        return rows;
+    }
+
+    private static boolean isHeader(List<String> cells) {
+        for (String c : cells) {
+            String v = c.trim().toLowerCase(Locale.ROOT);
+            if (v.equals("email") || v.equals("e-mail") || v.equals("почта")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addRow(List<Row> rows, int line, List<String> cells,
+                               int nameCol, int emailCol, int passwordCol, int tgCol) {
+        rows.add(new Row(line, cell(cells, nameCol), cell(cells, emailCol), cell(cells, passwordCol), cell(cells, tgCol)));
+    }
+
+    private static String cell(List<String> cells, int index) {
+        if (index < 0 || index >= cells.size()) {
+            return null;
+        }
+        String v = cells.get(index).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    
+    private static List<String> split(String line, char delimiter) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cur.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    cur.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                cells.add(cur.toString());
+                cur.setLength(0);
+            } else {
+                cur.append(c);
+            }
+        }
+        cells.add(cur.toString());
+        return cells;
+    }
+}
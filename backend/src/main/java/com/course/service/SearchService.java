@@ -0,0 +1,102 @@
+package com.course.service;
+
+import com.course.dto.search.SearchHitResponse;
+import com.course.dto.search.SearchResultsResponse;
+import com.course.dto.search.SlideSearchHitResponse;
+import com.course.dto.search.SlideSearchResultsResponse;
+import com.course.entity.User;
+import com.course.exception.ForbiddenOperationException;
+import com.course.repository.ContentSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final Set<String> ALL_TYPES = Set.of(
+            ContentSearchRepository.TYPE_COURSE,
+            ContentSearchRepository.TYPE_LESSON,
+            ContentSearchRepository.TYPE_ACTIVITY,
+            ContentSearchRepository.TYPE_QUESTION
+    );
+
+    private final ContentSearchRepository contentSearchRepository;
+    private final AuthService authService;
+
+    public SearchResultsResponse search(String q, List<String> types, int page, int size) {
+        User current = requireCurrentUser();
+        String text = normalizeQuery(q);
+        int limit = pageLimit(page, size);
+
+        Set<String> selected = new LinkedHashSet<>();
+        if (types == null || types.isEmpty()) {
+            selected.addAll(ALL_TYPES);
+        } else {
+            for (String type : types) {
+                String normalized = type == null ? "" : type.trim().toUpperCase(Locale.ROOT);
+                if (!ALL_TYPES.contains(normalized)) {
+                    throw new IllegalArgumentException("Unknown search type: " + type);
+                }
+                selected.add(normalized);
+            }
+        }
+
+        List<SearchHitResponse> hits = contentSearchRepository.search(
+                text, selected, current.getRole().getRolename(), current.getId(), limit + 1, page * limit);
+        boolean hasNext = hits.size() > limit;
+        if (hasNext) {
+            hits = hits.subList(0, limit);
+        }
+        return new SearchResultsResponse(text, hits, page, limit, hasNext);
+    }
+
+    public SlideSearchResultsResponse searchSlides(String q, Integer courseId, Integer lessonId, int page, int size) {
+        User current = requireCurrentUser();
+        String text = normalizeQuery(q);
+        int limit = pageLimit(page, size);
+
+        List<SlideSearchHitResponse> hits = contentSearchRepository.searchSlides(
+                text, courseId, lessonId, current.getRole().getRolename(), current.getId(), limit + 1, page * limit);
+        boolean hasNext = hits.size() > limit;
+        if (hasNext) {
+            hits = hits.subList(0, limit);
+        }
+        return new SlideSearchResultsResponse(text, hits, page, limit, hasNext);
+    }
+
+    private User requireCurrentUser() {
+        User current = authService.getCurrentUserEntity();
+        if (current == null || current.getId() == null || current.getRole() == null || current.getRole().getRolename() == null) {
+            throw new ForbiddenOperationException("Unauthenticated");
+        }
+        return current;
+    }
+
+    private static String normalizeQuery(String q) {
+        String text = q == null ? "" : q.trim();
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (text.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return text;
+    }
+
+    private static int pageLimit(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be >= 0");
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
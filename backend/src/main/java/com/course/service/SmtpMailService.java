@@ -7,6 +7,7 @@ import com.course.exception.MailNotConfiguredException;
 import com.course.exception.MailSendingException;
 import com.course.exception.ResourceNotFoundException;
 import com.course.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class SmtpMailService implements MailService {
     private static final Pattern SIMPLE_EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
 
     @Override
+    @Timed(value = "app.mail.send", description = "SMTP mail sending", percentiles = {0.5, 0.95, 0.99})
     public void sendToUser(Integer userId,
                            String subject,
                            String text) {
@@ -38,6 +40,7 @@ public class SmtpMailService implements MailService {
     }
 
     @Override
+    @Timed(value = "app.mail.send", description = "SMTP mail sending", percentiles = {0.5, 0.95, 0.99})
     public void sendToUserWithAttachment(Integer userId,
                                          String subject,
                                          String text,
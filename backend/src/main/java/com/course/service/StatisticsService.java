@@ -67,8 +67,10 @@ public class StatisticsService {
 
     
     public String exportTeacherStatsCsv(Integer methodistIdOverrideForAdmin) {
-        List<TeacherStatsResponse> rows = getTeacherStatsForCurrentMethodist(methodistIdOverrideForAdmin);
+        return buildTeacherStatsCsv(getTeacherStatsForCurrentMethodist(methodistIdOverrideForAdmin));
+    }
 
+    static String buildTeacherStatsCsv(List<TeacherStatsResponse> rows) {
         StringBuilder sb = new StringBuilder();
         sb.append("teacherId,teacherName,teacherEmail,classesCount,studentsCount,submittedAttemptsCount,gradedAttemptsCount,avgGradePercent\n");
 
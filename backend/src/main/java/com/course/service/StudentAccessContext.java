@@ -0,0 +1,169 @@
+package com.course.service;
+
+import com.course.repository.ClassOpenedLessonRepository;
+import com.course.repository.ClassOpenedTestRepository;
+import com.course.repository.ClassStudentRepository;
+import com.course.repository.StudentRemedialAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+
+@Component
+@RequiredArgsConstructor
+public class StudentAccessContext {
+
+    private static final String ATTRIBUTE = StudentAccessContext.class.getName() + ".snapshots";
+
+    private final ClassStudentRepository classStudentRepository;
+    private final ClassOpenedLessonRepository classOpenedLessonRepository;
+    private final ClassOpenedTestRepository classOpenedTestRepository;
+    private final StudentRemedialAssignmentRepository remedialAssignmentRepository;
+
+    public boolean isEnrolledInClass(Integer studentId, Integer classId) {
+        if (studentId == null || classId == null) {
+            return false;
+        }
+        Snapshot s = snapshot(studentId);
+        if (s == null) {
+            return classStudentRepository.existsByStudyClassIdAndStudentId(classId, studentId);
+        }
+        return s.classIds(() -> new HashSet<>(classStudentRepository.findClassIdsByStudentId(studentId))).contains(classId);
+    }
+
+    public boolean isEnrolledInCourse(Integer studentId, Integer courseId) {
+        if (studentId == null || courseId == null) {
+            return false;
+        }
+        Snapshot s = snapshot(studentId);
+        if (s == null) {
+            return classStudentRepository.existsStudentInCourse(studentId, courseId);
+        }
+        return s.courseIds(() -> new HashSet<>(classStudentRepository.findCourseIdsByStudentId(studentId))).contains(courseId);
+    }
+
+    public boolean isLessonOpened(Integer studentId, Integer lessonId) {
+        if (studentId == null || lessonId == null) {
+            return false;
+        }
+        Snapshot s = snapshot(studentId);
+        if (s == null) {
+            return classOpenedLessonRepository.isLessonOpenedForStudent(studentId, lessonId);
+        }
+        return s.openedLessonIds(() -> new HashSet<>(classOpenedLessonRepository.findOpenedLessonIdsForStudent(studentId))).contains(lessonId);
+    }
+
+    public boolean isTestOpened(Integer studentId, Integer testId) {
+        if (studentId == null || testId == null) {
+            return false;
+        }
+        Snapshot s = snapshot(studentId);
+        if (s == null) {
+            return classOpenedTestRepository.isTestOpenedForStudent(studentId, testId);
+        }
+        return s.openedTestIds(() -> new HashSet<>(classOpenedTestRepository.findOpenedTestIdsForStudent(studentId))).contains(testId);
+    }
+
+    public boolean isRemedialAssigned(Integer studentId, Integer testId) {
+        if (studentId == null || testId == null) {
+            return false;
+        }
+        Snapshot s = snapshot(studentId);
+        if (s == null) {
+            return remedialAssignmentRepository.existsByStudent_IdAndTest_Id(studentId, testId);
+        }
+        return s.remedialTestIds(() -> new HashSet<>(remedialAssignmentRepository.findTestIdsByStudentId(studentId))).contains(testId);
+    }
+
+    
+    public void evict(Integer studentId) {
+        Map<Integer, Snapshot> snapshots = snapshots(false);
+        if (snapshots != null && studentId != null) {
+            snapshots.remove(studentId);
+        }
+    }
+
+    public void evictAll() {
+        Map<Integer, Snapshot> snapshots = snapshots(false);
+        if (snapshots != null) {
+            snapshots.clear();
+        }
+    }
+
+    
+    private Snapshot snapshot(Integer studentId) {
+        Map<Integer, Snapshot> snapshots = snapshots(true);
+        if (snapshots == null) {
+            return null;
+        }
+        return snapshots.computeIfAbsent(studentId, id -> new Snapshot());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Integer, Snapshot> snapshots(boolean create) {
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        if (attrs == null) {
+            return null;
+        }
+        Object existing = attrs.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing != null) {
+            return (Map<Integer, Snapshot>) existing;
+        }
+        if (!create) {
+            return null;
+        }
+        Map<Integer, Snapshot> created = new HashMap<>();
+        attrs.setAttribute(ATTRIBUTE, created, RequestAttributes.SCOPE_REQUEST);
+        return created;
+    }
+
+    private static final class Snapshot {
+        private Set<Integer> classIds;
+        private Set<Integer> courseIds;
+        private Set<Integer> openedLessonIds;
+        private Set<Integer> openedTestIds;
+        private Set<Integer> remedialTestIds;
+
+        Set<Integer> classIds(Supplier<Set<Integer>> loader) {
+            if (classIds == null) {
+                classIds = loader.get();
+            }
+            return classIds;
+        }
+
+        Set<Integer> courseIds(Supplier<Set<Integer>> loader) {
+            if (courseIds == null) {
+                courseIds = loader.get();
+            }
+            return courseIds;
+        }
+
+        Set<Integer> openedLessonIds(Supplier<Set<Integer>> loader) {
+            if (openedLessonIds == null) {
+                openedLessonIds = loader.get();
+            }
+            return openedLessonIds;
+        }
+
+        Set<Integer> openedTestIds(Supplier<Set<Integer>> loader) {
+            if (openedTestIds == null) {
+                openedTestIds = loader.get();
+            }
+            return openedTestIds;
+        }
+
+        Set<Integer> remedialTestIds(Supplier<Set<Integer>> loader) {
+            if (remedialTestIds == null) {
+                remedialTestIds = loader.get();
+            }
+            return remedialTestIds;
+        }
+    }
+}
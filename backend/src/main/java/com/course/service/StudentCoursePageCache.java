@@ -0,0 +1,111 @@
+package com.course.service;
+
+import com.course.dto.course.StudentCoursePageResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+@Component
+public class StudentCoursePageCache {
+
+    private static final long TTL_MILLIS = 10 * 60_000L;
+    private static final int MAX_STUDENTS = 20_000;
+
+    private final Map<Integer, Map<PageKey, Entry>> byStudent = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> studentVersions = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> courseVersions = new ConcurrentHashMap<>();
+    private final long bootEpoch = System.currentTimeMillis();
+
+    
+    public long version(Integer studentId, Integer courseId) {
+        return counter(studentVersions, studentId).get() + counter(courseVersions, courseId).get();
+    }
+
+    
+    public String validator(Integer studentId, Integer courseId) {
+        return bootEpoch + ":" + version(studentId, courseId) + ":" + System.currentTimeMillis() / TTL_MILLIS;
+    }
+
+    public StudentCoursePageResponse get(Integer studentId, Integer courseId, LocalDate weekStart) {
+        if (studentId == null || courseId == null) {
+            return null;
+        }
+        Map<PageKey, Entry> pages = byStudent.get(studentId);
+        if (pages == null) {
+            return null;
+        }
+        PageKey key = new PageKey(courseId, weekStart);
+        Entry entry = pages.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis() || entry.version() != version(studentId, courseId)) {
+            pages.remove(key, entry);
+            return null;
+        }
+        return entry.page();
+    }
+
+    
+    public void put(Integer studentId, Integer courseId, LocalDate weekStart, long version, StudentCoursePageResponse page) {
+        if (studentId == null || courseId == null || page == null) {
+            return;
+        }
+        if (byStudent.size() >= MAX_STUDENTS) {
+            byStudent.clear();
+        }
+        byStudent.computeIfAbsent(studentId, id -> new ConcurrentHashMap<>())
+                .put(new PageKey(courseId, weekStart), new Entry(page, version, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    public void evictStudent(Integer studentId) {
+        if (studentId == null) {
+            return;
+        }
+        Runnable evict = () -> {
+            counter(studentVersions, studentId).incrementAndGet();
+            byStudent.remove(studentId);
+        };
+        evict.run();
+        afterCompletion(evict);
+    }
+
+    public void evictCourse(Integer courseId) {
+        if (courseId == null) {
+            return;
+        }
+        Runnable evict = () -> {
+            counter(courseVersions, courseId).incrementAndGet();
+            byStudent.values().forEach(pages -> pages.keySet().removeIf(k -> courseId.equals(k.courseId())));
+        };
+        evict.run();
+        afterCompletion(evict);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private static AtomicLong counter(Map<Integer, AtomicLong> versions, Integer id) {
+        return versions.computeIfAbsent(id, k -> new AtomicLong());
+    }
+
+    private record PageKey(Integer courseId, LocalDate weekStart) {
+    }
+
+    private record Entry(StudentCoursePageResponse page, long version, long expiresAt) {
+    }
+}
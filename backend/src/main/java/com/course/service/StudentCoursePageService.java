@@ -44,17 +44,42 @@ public class StudentCoursePageService {
     private final TestAttemptRepository testAttemptRepository;
     private final StudentRemedialAssignmentRepository studentRemedialAssignmentRepository;
     private final TestService testService;
+    private final StudentCoursePageCache pageCache;
 
+    public ResourceVersion getCoursePageVersion(Integer courseId) {
+        User current = authService.getCurrentUserEntity();
+        userService.assertUserEntityHasRole(current, ROLE_STUDENT);
+        classStudentService.assertStudentInCourse(current.getId(), courseId, "Student is not enrolled in this course");
+
+        return ResourceVersion.of(
+                null,
+                "course-page",
+                current.getId(),
+                courseId,
+                currentWeekStart(),
+                pageCache.validator(current.getId(), courseId)
+        );
+    }
+
+    @Transactional
     public StudentCoursePageResponse getCoursePage(Integer courseId) {
         User current = authService.getCurrentUserEntity();
         userService.assertUserEntityHasRole(current, ROLE_STUDENT);
+
+        LocalDate weekStart = currentWeekStart();
+        StudentCoursePageResponse cached = pageCache.get(current.getId(), courseId, weekStart);
+        if (cached != null) {
+            return cached;
+        }
+        long version = pageCache.version(current.getId(), courseId);
+
         classStudentService.assertStudentInCourse(current.getId(), courseId, "Student is not enrolled in this course");
 
         Course course = courseService.getEntityById(courseId);
 
         
         List<LessonResponse> allLessons = lessonService.listByCourse(courseId);
-        List<Integer> openedIds = classOpenedLessonService.findOpenedLessonIdsForStudentInCourse(current.getId(), courseId);
+        Set<Integer> openedIds = new HashSet<>(classOpenedLessonService.findOpenedLessonIdsForStudentInCourse(current.getId(), courseId));
         List<LessonResponse> openedLessons = openedIds.isEmpty()
                 ? List.of()
                 : allLessons.stream().filter(l -> l.getId() != null && openedIds.contains(l.getId())).toList();
@@ -83,7 +108,6 @@ public class StudentCoursePageService {
         }
 
         
-        LocalDate weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
         List<Test> weekly = testRepository.findAllByCourse_IdAndActivityTypeAndStatusAndAssignedWeekStart(
                 courseId, ActivityType.WEEKLY_STAR, TestStatus.READY, weekStart
         );
@@ -104,6 +128,7 @@ public class StudentCoursePageService {
         weekly.forEach(t -> testIds.add(t.getId()));
         remedial.forEach(t -> testIds.add(t.getId()));
 
+        Map<Integer, Integer> questionCounts = testService.countQuestionsByTestIds(testIds);
         Map<Integer, AttemptStatusResponse> latestByTest = new HashMap<>();
         if (!testIds.isEmpty()) {
             
@@ -144,7 +169,7 @@ public class StudentCoursePageService {
             LessonWithActivitiesResponse block = new LessonWithActivitiesResponse();
             block.setLesson(lesson);
             List<Test> acts = activitiesByLessonId.getOrDefault(lesson.getId(), List.of());
-            block.setActivities(acts.stream().map(t -> toActivityWithAttempt(t, latestByTest.get(t.getId()))).toList());
+            block.setActivities(acts.stream().map(t -> toActivityWithAttempt(t, questionCounts, latestByTest.get(t.getId()))).toList());
             lessonBlocks.add(block);
         }
 
@@ -152,15 +177,16 @@ public class StudentCoursePageService {
         dto.setCourse(toCourseDto(course));
         dto.setCourseClosed(classStudentService.isCourseClosedForStudent(current.getId(), courseId));
         dto.setLessons(lessonBlocks);
-        dto.setWeeklyThisWeek(weekly.stream().map(t -> toActivityWithAttempt(t, latestByTest.get(t.getId()))).toList());
-        dto.setRemedialThisWeek(remedial.stream().map(t -> toActivityWithAttempt(t, latestByTest.get(t.getId()))).toList());
+        dto.setWeeklyThisWeek(weekly.stream().map(t -> toActivityWithAttempt(t, questionCounts, latestByTest.get(t.getId()))).toList());
+        dto.setRemedialThisWeek(remedial.stream().map(t -> toActivityWithAttempt(t, questionCounts, latestByTest.get(t.getId()))).toList());
+        pageCache.put(current.getId(), courseId, weekStart, version, dto);
         return dto;
     }
 
-    private ActivityWithAttemptResponse toActivityWithAttempt(Test t, AttemptStatusResponse attempt) {
+    private ActivityWithAttemptResponse toActivityWithAttempt(Test t, Map<Integer, Integer> questionCounts, AttemptStatusResponse attempt) {
         ActivityWithAttemptResponse dto = new ActivityWithAttemptResponse();
         
-        ActivityResponse summary = testService.toSummaryDto(t);
+        ActivityResponse summary = testService.toSummaryDto(t, questionCounts.getOrDefault(t.getId(), 0));
         dto.setActivity(summary);
         dto.setLatestAttempt(attempt);
         return dto;
@@ -179,4 +205,8 @@ public class StudentCoursePageService {
         }
         return dto;
     }
+
+    private static LocalDate currentWeekStart() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(java.time.DayOfWeek.MONDAY));
+    }
 }
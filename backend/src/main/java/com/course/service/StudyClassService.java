@@ -31,6 +31,7 @@ public class StudyClassService {
     private final UserService userService;
     private final AuthService authService;
     private final MethodistTeacherService methodistTeacherService;
+    private final TeacherCourseAccessCache teacherCourseAccessCache;
 
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     private static final char[] JOIN_CODE_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789".toCharArray();
@@ -66,7 +67,11 @@ public class StudyClassService {
         sc.setCreatedBy(current);
         sc.setJoinCode(generateUniqueJoinCode());
 
-        return toDto(classRepository.save(sc));
+        StudyClass saved = classRepository.save(sc);
+        if (teacher != null) {
+            teacherCourseAccessCache.evict(teacher.getId());
+        }
+        return toDto(saved);
     }
 
     @Transactional(readOnly = true)
@@ -147,9 +152,7 @@ public class StudyClassService {
 
         userService.assertUserEntityHasRole(teacher, ROLE_TEACHER);
 
-        boolean ok = classRepository.findAllByTeacherId(teacher.getId()).stream()
-                .anyMatch(c -> c.getCourse() != null && c.getCourse().getId() != null && c.getCourse().getId().equals(courseId));
-        if (!ok) {
+        if (!teacherCourseAccessCache.canManageCourse(teacher.getId(), courseId)) {
             throw new ForbiddenOperationException("Teacher can manage only own courses");
         }
     }
@@ -170,6 +173,10 @@ public class StudyClassService {
             throw new ForbiddenOperationException("Changing courseId is not allowed");
         }
 
+        if (sc.getTeacher() != null) {
+            teacherCourseAccessCache.evict(sc.getTeacher().getId());
+        }
+
         if (dto.getTeacherId() == null) {
             sc.setTeacher(null);
         } else {
@@ -188,6 +195,7 @@ public class StudyClassService {
                 }
             }
             sc.setTeacher(teacher);
+            teacherCourseAccessCache.evict(teacher.getId());
         }
 
         return toDto(classRepository.save(sc));
@@ -200,6 +208,9 @@ public class StudyClassService {
         StudyClass sc = getEntityById(id);
         assertOwner(sc.getCreatedBy(), current, "Only class creator can delete this class");
 
+        if (sc.getTeacher() != null) {
+            teacherCourseAccessCache.evict(sc.getTeacher().getId());
+        }
         classRepository.delete(sc);
     }
 
@@ -0,0 +1,62 @@
+package com.course.service;
+
+import com.course.repository.StudyClassRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+@Component
+@RequiredArgsConstructor
+public class TeacherCourseAccessCache {
+
+    private static final long TTL_MILLIS = 60_000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final StudyClassRepository classRepository;
+
+    private final Map<Integer, Entry> byTeacher = new ConcurrentHashMap<>();
+
+    public boolean canManageCourse(Integer teacherId, Integer courseId) {
+        if (teacherId == null || courseId == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = byTeacher.get(teacherId);
+        if (entry == null || entry.expiresAt < now) {
+            if (byTeacher.size() >= MAX_ENTRIES) {
+                byTeacher.clear();
+            }
+            entry = new Entry(Set.copyOf(classRepository.findCourseIdsByTeacherId(teacherId)), now + TTL_MILLIS);
+            byTeacher.put(teacherId, entry);
+        }
+        if (entry.courseIds.contains(courseId)) {
+            return true;
+        }
+        
+        return classRepository.existsByTeacherIdAndCourseId(teacherId, courseId);
+    }
+
+    
+    public void evict(Integer teacherId) {
+        if (teacherId == null) {
+            return;
+        }
+        byTeacher.remove(teacherId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    byTeacher.remove(teacherId);
+                }
+            });
+        }
+    }
+
+    private record Entry(Set<Integer> courseIds, long expiresAt) {}
+}
@@ -50,6 +50,10 @@ public class TestAttemptService {
     private final TestQuestionRepository questionRepository;
 
     private final RemedialAssignmentService remedialAssignmentService;
+    private final StudentCoursePageCache coursePageCache;
+    private final ClassLeaderboardIndex leaderboardIndex;
+    private final OpenAnswerSimilarityIndex similarityIndex;
+    private final TextAnswerMatcherCache textMatchers;
 
 
     
@@ -158,6 +162,8 @@ public class TestAttemptService {
         attempt.setStatus(allOpenGraded ? TestAttemptStatus.GRADED : TestAttemptStatus.SUBMITTED);
 
         TestAttempt saved = attemptRepository.save(attempt);
+        coursePageCache.evictStudent(saved.getStudent().getId());
+        refreshLeaderboard(saved);
 
         
         if (saved.getStatus() == TestAttemptStatus.GRADED) {
@@ -273,6 +279,7 @@ public class TestAttemptService {
         attempt.setStatus(TestAttemptStatus.IN_PROGRESS);
         attempt.setStartedAt(LocalDateTime.now());
 
+        coursePageCache.evictStudent(current.getId());
         return new StartAttemptResult(toDto(attemptRepository.save(attempt), true), true);
     }
 
@@ -468,10 +475,10 @@ public AttemptResponse getLatestCompletedAttemptForTest(Integer testId) {
             String textAnswer = null;
             if (type == TestQuestionType.SINGLE_CHOICE) {
                 selectedOption = a.getSelectedOption();
-                isCorrect = q.getCorrectOption() != null && q.getCorrectOption().equals(selectedOption);
+                isCorrect = AttemptScoring.isAutoCorrect(textMatchers, q, selectedOption, null);
             } else if (type == TestQuestionType.TEXT) {
                 textAnswer = safeTrim(a.getTextAnswer());
-                isCorrect = isTextAnswerCorrect(textAnswer, q.getCorrectTextAnswer());
+                isCorrect = textMatchers.forQuestion(q).matches(textAnswer);
             } else if (type == TestQuestionType.OPEN) {
                 
                 textAnswer = safeTrim(a.getTextAnswer());
@@ -501,6 +508,12 @@ public AttemptResponse getLatestCompletedAttemptForTest(Integer testId) {
         attempt.setSubmittedAt(LocalDateTime.now());
 
         TestAttempt saved = attemptRepository.save(attempt);
+        if (hasOpenQuestions) {
+            attemptRepository.flush();
+            similarityIndex.index(saved.getAnswers());
+        }
+        coursePageCache.evictStudent(saved.getStudent().getId());
+        refreshLeaderboard(saved);
 
         
         if (saved.getStatus() == TestAttemptStatus.GRADED) {
@@ -514,6 +527,37 @@ public AttemptResponse getLatestCompletedAttemptForTest(Integer testId) {
 
     
 
+    public int finalizeExpiredControlWorks(int batchSize) {
+        if (batchSize <= 0) {
+            return 0;
+        }
+        return finalizeLockedAttempts(attemptRepository.lockExpiredControlWorkAttemptIds(LocalDateTime.now(), batchSize));
+    }
+
+    
+    public int finalizeExpiredAttempts(Collection<Integer> attemptIds) {
+        if (attemptIds == null || attemptIds.isEmpty()) {
+            return 0;
+        }
+        return finalizeLockedAttempts(attemptRepository.lockInProgressAttemptIds(new ArrayList<>(attemptIds)));
+    }
+
+    private int finalizeLockedAttempts(List<Integer> lockedIds) {
+        if (lockedIds == null || lockedIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int finalized = 0;
+        for (TestAttempt attempt : attemptRepository.findAllById(lockedIds)) {
+            Test test = attempt.getTest();
+            if (attempt.getStatus() == TestAttemptStatus.IN_PROGRESS && isTimeLimitExceeded(attempt, test, now)) {
+                finalizeExpiredAttempt(attempt, test);
+                finalized++;
+            }
+        }
+        return finalized;
+    }
+
     @Transactional(readOnly = true)
     public TestAttempt getEntityById(Integer attemptId) {
         return attemptRepository.findById(attemptId)
@@ -734,32 +778,24 @@ public AttemptResponse getLatestCompletedAttemptForTest(Integer testId) {
         if (attempt.getStatus() != TestAttemptStatus.IN_PROGRESS) {
             return;
         }
-        
+
         List<TestQuestion> questions = questionRepository.findAllByTest_IdOrderByOrderIndexAsc(test.getId());
         int maxTotal = 0;
         for (TestQuestion q : questions) {
-            int pts = (q != null && q.getPoints() != null && q.getPoints() > 0) ? q.getPoints() : 1;
-            maxTotal += pts;
+            maxTotal += AttemptScoring.questionPoints(q);
         }
 
+        
         attempt.setStatus(TestAttemptStatus.GRADED);
         attempt.setSubmittedAt(LocalDateTime.now());
         attempt.setScore(0);
         attempt.setMaxScore(maxTotal);
-        attemptRepository.save(attempt);
-    }
+        TestAttempt saved = attemptRepository.save(attempt);
+        coursePageCache.evictStudent(saved.getStudent().getId());
+        refreshLeaderboard(saved);
 
-    
-    private boolean isTextAnswerCorrect(String studentAnswer, String correctAnswer) {
-        if (correctAnswer == null) {
-            return false;
-        }
-        String c = correctAnswer.trim();
-        if (c.isEmpty()) {
-            return false;
-        }
-        String s = studentAnswer == null ? "" : studentAnswer.trim();
-        return c.equalsIgnoreCase(s);
+        remedialAssignmentService.considerAssignAfterGrading(saved);
+        remedialAssignmentService.markCompletedIfRemedial(saved);
     }
 
     
@@ -832,4 +868,11 @@ public AttemptResponse getLatestCompletedAttemptForTest(Integer testId) {
                 && user.getRole().getRolename() != null
                 && role == user.getRole().getRolename();
     }
+
+    private void refreshLeaderboard(TestAttempt attempt) {
+        if (attempt.getTest() == null || attempt.getTest().getCourse() == null || attempt.getStudent() == null) {
+            return;
+        }
+        leaderboardIndex.refreshStudent(attempt.getStudent().getId(), attempt.getTest().getCourse().getId());
+    }
 }
@@ -1,16 +1,22 @@
 package com.course.service;
 
 import com.course.dto.activity.ActivityCreateRequest;
+import com.course.dto.activity.ActivityQuestionBulkItemRequest;
 import com.course.dto.activity.ActivityQuestionResponse;
 import com.course.dto.activity.ActivityQuestionUpsertRequest;
+import com.course.dto.activity.ActivityQuestionsBulkResponse;
 import com.course.dto.activity.ActivityResponse;
 import com.course.dto.activity.ActivityUpsertRequest;
 import com.course.dto.activity.WeeklyActivityAssignRequest;
 import com.course.entity.*;
 import com.course.exception.*;
+import com.course.repository.TestQuestionCountProjection;
 import com.course.repository.TestQuestionRepository;
 import com.course.repository.TestRepository;
-import com.course.repository.StudentRemedialAssignmentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,7 +24,14 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -39,8 +52,11 @@ public class TestService {
     private final StudyClassService studyClassService;
     private final UserService userService;
     private final AuthService authService;
-    private final StudentRemedialAssignmentRepository studentRemedialAssignmentRepository;
+    private final StudentAccessContext studentAccessContext;
     private final NotificationService notificationService;
+    private final StudentCoursePageCache coursePageCache;
+    private final TextAnswerMatcherCache textMatchers;
+    private final ObjectMapper objectMapper;
 
     public ActivityResponse create(Integer lessonId, ActivityUpsertRequest dto) {
         User current = authService.getCurrentUserEntity();
@@ -214,6 +230,7 @@ public class TestService {
 
         test.setAssignedWeekStart(weekStart);
         Test saved = testRepository.save(test);
+        coursePageCache.evictCourse(saved.getCourse() != null ? saved.getCourse().getId() : null);
 
         
         if (saved.getCourse() != null && saved.getCourse().getId() != null) {
@@ -321,6 +338,21 @@ public class TestService {
         return toDto(test, canSeeCorrect);
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getByIdVersion(Integer testId) {
+        Test test = getEntityForCurrentUser(testId);
+        User current = authService.getCurrentUserEntity();
+
+        boolean canSeeCorrect = isRole(current, ROLE_METHODIST) || isRole(current, ROLE_ADMIN);
+        return ResourceVersion.ofAggregate(
+                "activity",
+                questionRepository.stampByTest(test.getId()),
+                test.getId(),
+                test.getUpdatedAt(),
+                canSeeCorrect
+        );
+    }
+
     public ActivityResponse update(Integer testId, ActivityUpsertRequest dto) {
         User current = authService.getCurrentUserEntity();
         userService.assertUserEntityHasRole(current, ROLE_METHODIST);
@@ -393,7 +425,9 @@ public class TestService {
 
         test.setStatus(TestStatus.READY);
         test.setPublishedAt(LocalDateTime.now());
-        return toDto(testRepository.save(test), true);
+        Test saved = testRepository.save(test);
+        coursePageCache.evictCourse(saved.getCourse() != null ? saved.getCourse().getId() : null);
+        return toDto(saved, true);
     }
 
     
@@ -434,31 +468,7 @@ public class TestService {
         }
         q.setQuestionType(type);
         q.setPoints(dto.getPoints() == null ? 1 : dto.getPoints());
-
-        if (type == TestQuestionType.SINGLE_CHOICE) {
-            q.setOption1(safeTrim(dto.getOption1()));
-            q.setOption2(safeTrim(dto.getOption2()));
-            q.setOption3(safeTrim(dto.getOption3()));
-            q.setOption4(safeTrim(dto.getOption4()));
-            q.setCorrectOption(dto.getCorrectOption());
-            q.setCorrectTextAnswer(null);
-        } else if (type == TestQuestionType.TEXT) {
-            
-            q.setOption1(null);
-            q.setOption2(null);
-            q.setOption3(null);
-            q.setOption4(null);
-            q.setCorrectOption(null);
-            q.setCorrectTextAnswer(safeTrim(dto.getCorrectTextAnswer()));
-        } else if (type == TestQuestionType.OPEN) {
-            
-            q.setOption1(null);
-            q.setOption2(null);
-            q.setOption3(null);
-            q.setOption4(null);
-            q.setCorrectOption(null);
-            q.setCorrectTextAnswer(null);
-        }
+        applyAnswerFields(q, dto);
 
         validateQuestionEntity(q);
         return (ActivityQuestionResponse) toQuestionDto(questionRepository.save(q));
@@ -508,28 +518,7 @@ public class TestService {
             q.setPoints(dto.getPoints());
         }
 
-        if (q.getQuestionType() == TestQuestionType.SINGLE_CHOICE) {
-            q.setOption1(safeTrim(dto.getOption1()));
-            q.setOption2(safeTrim(dto.getOption2()));
-            q.setOption3(safeTrim(dto.getOption3()));
-            q.setOption4(safeTrim(dto.getOption4()));
-            q.setCorrectOption(dto.getCorrectOption());
-            q.setCorrectTextAnswer(null);
-        } else if (q.getQuestionType() == TestQuestionType.TEXT) {
-            q.setOption1(null);
-            q.setOption2(null);
-            q.setOption3(null);
-            q.setOption4(null);
-            q.setCorrectOption(null);
-            q.setCorrectTextAnswer(safeTrim(dto.getCorrectTextAnswer()));
-        } else if (q.getQuestionType() == TestQuestionType.OPEN) {
-            q.setOption1(null);
-            q.setOption2(null);
-            q.setOption3(null);
-            q.setOption4(null);
-            q.setCorrectOption(null);
-            q.setCorrectTextAnswer(null);
-        }
+        applyAnswerFields(q, dto);
 
         validateQuestionEntity(q);
         return (ActivityQuestionResponse) toQuestionDto(questionRepository.save(q));
@@ -551,6 +540,120 @@ public class TestService {
         }
 
         questionRepository.delete(q);
+        textMatchers.evict(questionId);
+    }
+
+    
+    public ActivityQuestionsBulkResponse bulkUpsertQuestions(Integer testId, List<ActivityQuestionBulkItemRequest> items) {
+        User current = authService.getCurrentUserEntity();
+        userService.assertUserEntityHasRole(current, ROLE_METHODIST);
+
+        Test test = getEntityById(testId);
+        assertOwner(test.getCreatedBy(), current, "Only test creator can edit questions");
+        assertDraft(test, "Questions can be edited only while test is DRAFT");
+
+        if (items == null || items.isEmpty()) {
+            throw new TestQuestionValidationException("questions must not be empty");
+        }
+
+        List<TestQuestion> existing = questionRepository.findAllByTest_IdOrderByOrderIndexAsc(testId);
+        Map<Integer, TestQuestion> byId = new HashMap<>();
+        Map<Integer, TestQuestion> byOrder = new HashMap<>();
+        for (TestQuestion q : existing) {
+            byId.put(q.getId(), q);
+            byOrder.put(q.getOrderIndex(), q);
+        }
+
+        Set<Integer> referencedIds = new HashSet<>();
+        for (ActivityQuestionBulkItemRequest item : items) {
+            if (item == null || item.getId() == null) {
+                continue;
+            }
+            if (!byId.containsKey(item.getId())) {
+                throw new TestQuestionNotFoundException("Question with id " + item.getId() + " not found in test " + testId);
+            }
+            if (!referencedIds.add(item.getId())) {
+                throw new TestQuestionValidationException("Question id " + item.getId() + " is listed more than once");
+            }
+        }
+
+        
+        Set<Integer> orders = new HashSet<>();
+        Set<Integer> kept = new HashSet<>();
+        ArrayNode inserts = objectMapper.createArrayNode();
+        ArrayNode updates = objectMapper.createArrayNode();
+        int unchanged = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ActivityQuestionBulkItemRequest item = items.get(i);
+            int row = i + 1;
+            if (item == null) {
+                throw new TestQuestionValidationException("Question " + row + ": data is required");
+            }
+            int orderIndex = item.getOrderIndex() == null ? row : item.getOrderIndex();
+            if (orderIndex < 1) {
+                throw new TestQuestionValidationException("Question " + row + ": orderIndex must be >= 1");
+            }
+            if (!orders.add(orderIndex)) {
+                throw new TestQuestionValidationException("Question " + row + ": duplicate orderIndex " + orderIndex);
+            }
+
+            TestQuestion target = new TestQuestion();
+            target.setTest(test);
+            target.setOrderIndex(orderIndex);
+            target.setQuestionText(safeTrim(item.getQuestionText()));
+            try {
+                TestQuestionType type = parseQuestionType(item.getQuestionType(), TestQuestionType.SINGLE_CHOICE);
+                if (test.getActivityType() == ActivityType.REMEDIAL_TASK && type == TestQuestionType.OPEN) {
+                    throw new TestQuestionValidationException("REMEDIAL_TASK cannot contain OPEN questions");
+                }
+                target.setQuestionType(type);
+                target.setPoints(item.getPoints() == null ? 1 : item.getPoints());
+                applyAnswerFields(target, item);
+                validateQuestionEntity(target);
+            } catch (TestQuestionValidationException e) {
+                throw new TestQuestionValidationException("Question " + row + ": " + e.getMessage());
+            }
+
+            TestQuestion match = item.getId() != null ? byId.get(item.getId()) : byOrder.get(orderIndex);
+            if (match != null && item.getId() == null && (referencedIds.contains(match.getId()) || kept.contains(match.getId()))) {
+                match = null;
+            }
+            if (match == null) {
+                inserts.add(questionRow(target));
+            } else {
+                kept.add(match.getId());
+                if (sameQuestion(match, target)) {
+                    unchanged++;
+                } else {
+                    updates.add(questionRow(target).put("id", match.getId()));
+                }
+            }
+        }
+
+        List<Integer> deletes = existing.stream()
+                .map(TestQuestion::getId)
+                .filter(id -> !kept.contains(id))
+                .toList();
+
+        if (!deletes.isEmpty() || !updates.isEmpty() || !inserts.isEmpty()) {
+            
+            questionRepository.deferOrderIndexCheck();
+            if (!deletes.isEmpty()) {
+                questionRepository.deleteQuestions(testId, deletes);
+            }
+            if (!updates.isEmpty()) {
+                questionRepository.updateQuestions(testId, toJson(updates));
+            }
+            if (!inserts.isEmpty()) {
+                questionRepository.insertQuestions(testId, toJson(inserts));
+            }
+            deletes.forEach(textMatchers::evict);
+        }
+
+        List<ActivityQuestionResponse> questions = questionRepository.findAllByTest_IdOrderByOrderIndexAsc(testId).stream()
+                .map(this::toQuestionDto)
+                .toList();
+        return new ActivityQuestionsBulkResponse(testId, inserts.size(), updates.size(), deletes.size(), unchanged, questions);
     }
 
     
@@ -595,7 +698,7 @@ public class TestService {
 
                 
                 if (test.getActivityType() == ActivityType.REMEDIAL_TASK) {
-                    boolean assigned = studentRemedialAssignmentRepository.existsByStudent_IdAndTest_Id(currentUser.getId(), test.getId());
+                    boolean assigned = studentAccessContext.isRemedialAssigned(currentUser.getId(), test.getId());
                     if (!assigned) {
                         throw new ForbiddenOperationException("Remedial activity is not assigned to you");
                     }
@@ -666,6 +769,7 @@ public class TestService {
             if (!includeCorrectAnswers) {
                 qdto.setCorrectOption(null);
                 qdto.setCorrectTextAnswer(null);
+                qdto.setAcceptedTextAnswers(null);
             }
             return qdto;
         }).toList());
@@ -675,6 +779,22 @@ public class TestService {
 
     
     public ActivityResponse toSummaryDto(Test test) {
+        return toSummaryDto(test, questionRepository.countByTest_Id(test.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Integer, Integer> countQuestionsByTestIds(Collection<Integer> testIds) {
+        Map<Integer, Integer> result = new HashMap<>();
+        if (testIds == null || testIds.isEmpty()) {
+            return result;
+        }
+        for (TestQuestionCountProjection row : questionRepository.countByTestIds(testIds)) {
+            result.put(row.getTestId(), row.getQuestionCount() == null ? 0 : row.getQuestionCount().intValue());
+        }
+        return result;
+    }
+
+    public ActivityResponse toSummaryDto(Test test, int questionCount) {
         ActivityResponse dto = new ActivityResponse();
         dto.setId(test.getId());
 
@@ -705,7 +825,7 @@ public class TestService {
             dto.setCreatedByName(test.getCreatedBy().getName());
         }
 
-        dto.setQuestionCount(questionRepository.countByTest_Id(test.getId()));
+        dto.setQuestionCount(questionCount);
         dto.setCreatedAt(test.getCreatedAt());
         dto.setUpdatedAt(test.getUpdatedAt());
         
@@ -728,6 +848,11 @@ public class TestService {
         dto.setOption4(q.getOption4());
         dto.setCorrectOption(q.getCorrectOption());
         dto.setCorrectTextAnswer(q.getCorrectTextAnswer());
+        if (q.getQuestionType() == TestQuestionType.TEXT) {
+            dto.setAcceptedTextAnswers(TextAnswerMatcher.splitAccepted(q.getAcceptedTextAnswers()));
+            dto.setTextMatchMode(q.getTextMatchMode() != null ? q.getTextMatchMode().name() : null);
+            dto.setTextMaxTypos(q.getTextMaxTypos());
+        }
         dto.setCreatedAt(q.getCreatedAt());
         dto.setUpdatedAt(q.getUpdatedAt());
         return dto;
@@ -760,6 +885,12 @@ public class TestService {
             if (!StringUtils.hasText(q.getCorrectTextAnswer())) {
                 throw new TestQuestionValidationException("correctTextAnswer must be provided for TEXT");
             }
+            if (q.getTextMaxTypos() != null && (q.getTextMaxTypos() < 0 || q.getTextMaxTypos() > TextAnswerMatcher.MAX_TYPOS)) {
+                throw new TestQuestionValidationException("textMaxTypos must be between 0 and " + TextAnswerMatcher.MAX_TYPOS);
+            }
+            if (q.getTextMaxTypos() != null && q.getTextMatchMode() != TextMatchMode.FUZZY) {
+                throw new TestQuestionValidationException("textMaxTypos is allowed only for FUZZY textMatchMode");
+            }
         } else if (type == TestQuestionType.OPEN) {
             
             
@@ -812,6 +943,116 @@ public class TestService {
         }
     }
 
+    
+    private void applyAnswerFields(TestQuestion q, ActivityQuestionUpsertRequest dto) {
+        if (q.getQuestionType() == TestQuestionType.SINGLE_CHOICE) {
+            q.setOption1(safeTrim(dto.getOption1()));
+            q.setOption2(safeTrim(dto.getOption2()));
+            q.setOption3(safeTrim(dto.getOption3()));
+            q.setOption4(safeTrim(dto.getOption4()));
+            q.setCorrectOption(dto.getCorrectOption());
+            q.setCorrectTextAnswer(null);
+            clearTextMatching(q);
+        } else if (q.getQuestionType() == TestQuestionType.TEXT) {
+            q.setOption1(null);
+            q.setOption2(null);
+            q.setOption3(null);
+            q.setOption4(null);
+            q.setCorrectOption(null);
+            q.setCorrectTextAnswer(safeTrim(dto.getCorrectTextAnswer()));
+            applyTextMatching(q, dto);
+        } else if (q.getQuestionType() == TestQuestionType.OPEN) {
+            q.setOption1(null);
+            q.setOption2(null);
+            q.setOption3(null);
+            q.setOption4(null);
+            q.setCorrectOption(null);
+            q.setCorrectTextAnswer(null);
+            clearTextMatching(q);
+        }
+    }
+
+    private ObjectNode questionRow(TestQuestion q) {
+        ObjectNode row = objectMapper.createObjectNode();
+        row.put("order_index", q.getOrderIndex());
+        row.put("question_text", q.getQuestionText());
+        row.put("question_type", q.getQuestionType().name());
+        row.put("points", q.getPoints());
+        row.put("option_1", q.getOption1());
+        row.put("option_2", q.getOption2());
+        row.put("option_3", q.getOption3());
+        row.put("option_4", q.getOption4());
+        row.put("correct_option", q.getCorrectOption());
+        row.put("correct_text_answer", q.getCorrectTextAnswer());
+        row.put("accepted_text_answers", q.getAcceptedTextAnswers());
+        row.put("text_match_mode", q.getTextMatchMode().name());
+        row.put("text_max_typos", q.getTextMaxTypos());
+        return row;
+    }
+
+    private static boolean sameQuestion(TestQuestion a, TestQuestion b) {
+        return Objects.equals(a.getOrderIndex(), b.getOrderIndex())
+                && Objects.equals(a.getQuestionText(), b.getQuestionText())
+                && a.getQuestionType() == b.getQuestionType()
+                && Objects.equals(a.getPoints(), b.getPoints())
+                && Objects.equals(a.getOption1(), b.getOption1())
+                && Objects.equals(a.getOption2(), b.getOption2())
+                && Objects.equals(a.getOption3(), b.getOption3())
+                && Objects.equals(a.getOption4(), b.getOption4())
+                && Objects.equals(a.getCorrectOption(), b.getCorrectOption())
+                && Objects.equals(a.getCorrectTextAnswer(), b.getCorrectTextAnswer())
+                && Objects.equals(a.getAcceptedTextAnswers(), b.getAcceptedTextAnswers())
+                && a.getTextMatchMode() == b.getTextMatchMode()
+                && Objects.equals(a.getTextMaxTypos(), b.getTextMaxTypos());
+    }
+
+    private String toJson(ArrayNode rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize questions", e);
+        }
+    }
+
+    private void applyTextMatching(TestQuestion q, ActivityQuestionUpsertRequest dto) {
+        List<String> accepted = new ArrayList<>();
+        if (dto.getAcceptedTextAnswers() != null) {
+            for (String a : dto.getAcceptedTextAnswers()) {
+                String v = a == null ? "" : a.replace('\n', ' ').replace('\r', ' ').trim();
+                if (v.length() > 512) {
+                    throw new TestQuestionValidationException("Each accepted text answer must be at most 512 characters");
+                }
+                if (!v.isEmpty() && !accepted.contains(v)) {
+                    accepted.add(v);
+                }
+            }
+        }
+        String joined = accepted.isEmpty() ? null : String.join("\n", accepted);
+        if (joined != null && joined.length() > 4096) {
+            throw new TestQuestionValidationException("acceptedTextAnswers are too long");
+        }
+        q.setAcceptedTextAnswers(joined);
+        q.setTextMatchMode(parseTextMatchMode(dto.getTextMatchMode()));
+        q.setTextMaxTypos(dto.getTextMaxTypos());
+    }
+
+    private void clearTextMatching(TestQuestion q) {
+        q.setAcceptedTextAnswers(null);
+        q.setTextMatchMode(TextMatchMode.EXACT);
+        q.setTextMaxTypos(null);
+    }
+
+    private TextMatchMode parseTextMatchMode(String raw) {
+        if (!StringUtils.hasText(raw)) {
+            return TextMatchMode.EXACT;
+        }
+        try {
+            return TextMatchMode.valueOf(raw.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new TestQuestionValidationException("Invalid textMatchMode: " + raw + ". Supported: EXACT, NORMALIZED, FUZZY");
+        }
+    }
+
     private void assertOwner(User owner, User current, String message) {
         if (owner == null || owner.getId() == null || current == null || current.getId() == null
                 || !owner.getId().equals(current.getId())) {
@@ -0,0 +1,197 @@
+package com.course.service;
+
+import com.course.entity.TestQuestion;
+import com.course.entity.TextMatchMode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+
+final class TextAnswerMatcher {
+
+    static final int MAX_TYPOS = 3;
+
+    private final TextMatchMode mode;
+    private final Set<String> exact;
+    private final List<Pattern> patterns;
+
+    private TextAnswerMatcher(TextMatchMode mode, Set<String> exact, List<Pattern> patterns) {
+        this.mode = mode;
+        this.exact = exact;
+        this.patterns = patterns;
+    }
+
+    static TextAnswerMatcher compile(TestQuestion q) {
+        TextMatchMode mode = q.getTextMatchMode() == null ? TextMatchMode.EXACT : q.getTextMatchMode();
+        List<String> candidates = new ArrayList<>();
+        if (q.getCorrectTextAnswer() != null) {
+            candidates.add(q.getCorrectTextAnswer());
+        }
+        candidates.addAll(splitAccepted(q.getAcceptedTextAnswers()));
+
+        Set<String> exact = new LinkedHashSet<>();
+        List<Pattern> patterns = new ArrayList<>();
+        for (String c : candidates) {
+            String key = key(mode, c);
+            if (key.isEmpty() || !exact.add(key)) {
+                continue;
+            }
+            if (mode == TextMatchMode.FUZZY) {
+                int k = q.getTextMaxTypos() != null
+                        ? Math.max(0, Math.min(MAX_TYPOS, q.getTextMaxTypos()))
+                        : defaultTypos(key.length());
+                if (k > 0) {
+                    patterns.add(new Pattern(key, k));
+                }
+            }
+        }
+        return new TextAnswerMatcher(mode, exact, patterns);
+    }
+
+    boolean matches(String answer) {
+        if (exact.isEmpty()) {
+            return false;
+        }
+        String key = key(mode, answer);
+        if (key.isEmpty()) {
+            return false;
+        }
+        if (exact.contains(key)) {
+            return true;
+        }
+        for (Pattern p : patterns) {
+            if (p.within(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    static List<String> splitAccepted(String stored) {
+        List<String> result = new ArrayList<>();
+        if (stored == null) {
+            return result;
+        }
+        for (String line : stored.split("\n")) {
+            String s = line.trim();
+            if (!s.isEmpty()) {
+                result.add(s);
+            }
+        }
+        return result;
+    }
+
+    private static String key(TextMatchMode mode, String s) {
+        if (s == null) {
+            return "";
+        }
+        return mode == TextMatchMode.EXACT ? s.trim().toLowerCase(Locale.ROOT) : AttemptScoring.normalizeAnswer(s);
+    }
+
+
+    private static int defaultTypos(int length) {
+        if (length <= 3) {
+            return 0;
+        }
+        return length <= 7 ? 1 : 2;
+    }
+
+
+    private static final class Pattern {
+        private final char[] chars;
+        private final int k;
+        private final Map<Character, Long> peq;
+
+        Pattern(String text, int k) {
+            this.chars = text.toCharArray();
+            this.k = k;
+            if (chars.length <= Long.SIZE) {
+                peq = new HashMap<>();
+                for (int i = 0; i < chars.length; i++) {
+                    peq.merge(chars[i], 1L << i, (a, b) -> a | b);
+                }
+            } else {
+                peq = null;
+            }
+        }
+
+        boolean within(String text) {
+            if (Math.abs(text.length() - chars.length) > k) {
+                return false;
+            }
+            return peq != null ? bitParallel(text) : banded(text);
+        }
+
+
+        private boolean bitParallel(String text) {
+            int m = chars.length;
+            long last = 1L << (m - 1);
+            long pv = m == Long.SIZE ? -1L : (1L << m) - 1;
+            long mv = 0;
+            int score = m;
+            int n = text.length();
+            for (int j = 0; j < n; j++) {
+                long eq = peq.getOrDefault(text.charAt(j), 0L);
+                long xv = eq | mv;
+                long xh = (((eq & pv) + pv) ^ pv) | eq;
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+                if ((ph & last) != 0) {
+                    score++;
+                } else if ((mh & last) != 0) {
+                    score--;
+                }
+                ph = (ph << 1) | 1;
+                mh <<= 1;
+                pv = mh | ~(xv | ph);
+                mv = ph & xv;
+                if (score - (n - j - 1) > k) {
+                    return false;
+                }
+            }
+            return score <= k;
+        }
+
+        private boolean banded(String text) {
+            int m = chars.length;
+            int n = text.length();
+            int inf = k + 1;
+            int[] prev = new int[n + 1];
+            int[] cur = new int[n + 1];
+            for (int j = 0; j <= n; j++) {
+                prev[j] = j <= k ? j : inf;
+            }
+            for (int i = 1; i <= m; i++) {
+                int from = Math.max(1, i - k);
+                int to = Math.min(n, i + k);
+                cur[0] = i <= k ? i : inf;
+                if (from > 1) {
+                    cur[from - 1] = inf;
+                }
+                int rowMin = cur[0];
+                for (int j = from; j <= to; j++) {
+                    int cost = chars[i - 1] == text.charAt(j - 1) ? 0 : 1;
+                    int v = Math.min(prev[j - 1] + cost, Math.min(prev[j] + 1, cur[j - 1] + 1));
+                    cur[j] = Math.min(v, inf);
+                    rowMin = Math.min(rowMin, cur[j]);
+                }
+                if (to < n) {
+                    cur[to + 1] = inf;
+                }
+                if (rowMin > k) {
+                    return false;
+                }
+                int[] t = prev;
+                prev = cur;
+                cur = t;
+            }
+            return prev[n] <= k;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.course.service;
+
+import com.course.entity.TestQuestion;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+@Component
+public class TextAnswerMatcherCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Integer, Compiled> matchers = new ConcurrentHashMap<>();
+
+
+    TextAnswerMatcher forQuestion(TestQuestion q) {
+        if (q.getId() == null) {
+            return TextAnswerMatcher.compile(q);
+        }
+        Compiled cached = matchers.get(q.getId());
+        if (cached != null && Objects.equals(cached.version(), q.getUpdatedAt())) {
+            return cached.matcher();
+        }
+        if (matchers.size() >= MAX_ENTRIES) {
+            matchers.clear();
+        }
+        TextAnswerMatcher matcher = TextAnswerMatcher.compile(q);
+        matchers.put(q.getId(), new Compiled(q.getUpdatedAt(), matcher));
+        return matcher;
+    }
+
+    public void evict(Integer questionId) {
+        if (questionId != null) {
+            matchers.remove(questionId);
+        }
+    }
+
+    private record Compiled(LocalDateTime version, TextAnswerMatcher matcher) {
+    }
+}
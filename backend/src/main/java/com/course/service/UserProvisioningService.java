@@ -0,0 +1,233 @@
+package com.course.service;
+
+import com.course.config.ProvisioningProperties;
+import com.course.dto.user.BulkUserProvisionRequest;
+import com.course.dto.user.BulkUserProvisionResponse;
+import com.course.entity.RoleName;
+import com.course.entity.User;
+import com.course.repository.UserIdentityProjection;
+import com.course.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProvisioningService {
+
+    private static final Set<RoleName> PROVISIONABLE_ROLES = Set.of(RoleName.METHODIST, RoleName.TEACHER, RoleName.STUDENT);
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final PasswordHashingPool passwordHashingPool;
+    private final ProvisioningProperties provisioningProperties;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Candidate(int row, BulkUserProvisionRequest.UserRow data, String email, String tgId, boolean generated) {
+    }
+
+    
+    public BulkUserProvisionResponse provision(BulkUserProvisionRequest request) {
+        List<BulkUserProvisionRequest.UserRow> rows = request == null || request.getUsers() == null
+                ? List.of()
+                : request.getUsers();
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("users must not be empty");
+        }
+        if (rows.size() > provisioningProperties.getMaxRows()) {
+            throw new IllegalArgumentException("Too many users in one request (max " + provisioningProperties.getMaxRows() + ")");
+        }
+
+        BulkUserProvisionResponse result = new BulkUserProvisionResponse();
+        result.setTotalRows(rows.size());
+
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> seenNames = new HashSet<>();
+        Set<String> seenTgIds = new HashSet<>();
+        List<Candidate> candidates = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            BulkUserProvisionRequest.UserRow row = rows.get(i);
+            if (row == null) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, null, "Row is empty"));
+                continue;
+            }
+            trim(row);
+            Set<ConstraintViolation<BulkUserProvisionRequest.UserRow>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, row.getEmail(),
+                        violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "))));
+                continue;
+            }
+            if (!PROVISIONABLE_ROLES.contains(row.getRole())) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, row.getEmail(),
+                        "Role " + row.getRole() + " cannot be provisioned"));
+                continue;
+            }
+            if (row.getMethodistId() != null && row.getRole() != RoleName.TEACHER) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, row.getEmail(),
+                        "methodistId is allowed only for TEACHER rows"));
+                continue;
+            }
+
+            String email = row.getEmail().toLowerCase(Locale.ROOT);
+            if (!seenEmails.add(email)) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, row.getEmail(), "Duplicate email in request"));
+                continue;
+            }
+            if (!seenNames.add(row.getName())) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, row.getEmail(), "Duplicate name in request"));
+                continue;
+            }
+            if (row.getTgId() != null && !seenTgIds.add(row.getTgId())) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(i, row.getEmail(), "Duplicate Telegram ID in request"));
+                continue;
+            }
+            candidates.add(new Candidate(i, row, email, row.getTgId(), row.getPassword() == null));
+        }
+
+        List<Candidate> valid = candidates;
+        candidates = transactionTemplate.execute(status -> rejectInvalidMethodists(
+                rejectExistingIdentities(valid, seenEmails, seenNames, seenTgIds, result), result));
+
+        if (!candidates.isEmpty()) {
+            List<String> rawPasswords = new ArrayList<>(candidates.size());
+            for (Candidate c : candidates) {
+                rawPasswords.add(c.generated() ? passwordHashingPool.generateTemporaryPassword() : c.data().getPassword());
+            }
+            List<String> hashes = passwordHashingPool.encodeAll(rawPasswords);
+
+            List<UserService.BatchUser> batch = new ArrayList<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                BulkUserProvisionRequest.UserRow row = candidates.get(i).data();
+                batch.add(new UserService.BatchUser(row.getName(), row.getEmail(), hashes.get(i), row.getTgId(),
+                        row.getRole(), row.getMethodistId()));
+            }
+
+            Map<String, User> created = new HashMap<>();
+            for (User u : userService.createUsersBatch(batch)) {
+                created.put(u.getEmail().toLowerCase(Locale.ROOT), u);
+            }
+            for (int i = 0; i < candidates.size(); i++) {
+                Candidate c = candidates.get(i);
+                User user = created.get(c.email());
+                if (user == null) {
+                    result.getErrors().add(new BulkUserProvisionResponse.RowError(c.row(), c.data().getEmail(),
+                            "User with this email, name or Telegram ID already exists"));
+                    continue;
+                }
+                result.getCreated().add(new BulkUserProvisionResponse.CreatedUser(c.row(), userService.toDto(user),
+                        c.generated() ? rawPasswords.get(i) : null));
+            }
+        }
+
+        result.setCreatedCount(result.getCreated().size());
+        result.getErrors().sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+        log.info("Bulk provisioning: {} rows, {} created, {} rejected",
+                result.getTotalRows(), result.getCreatedCount(), result.getErrors().size());
+        return result;
+    }
+
+    private List<Candidate> rejectExistingIdentities(List<Candidate> candidates,
+                                                     Set<String> emails,
+                                                     Set<String> names,
+                                                     Set<String> tgIds,
+                                                     BulkUserProvisionResponse result) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenNames = new HashSet<>();
+        Set<String> takenTgIds = new HashSet<>();
+        for (UserIdentityProjection existing : userRepository.findIdentityConflicts(
+                nonEmpty(emails), nonEmpty(names), nonEmpty(tgIds))) {
+            if (existing.getEmail() != null) {
+                takenEmails.add(existing.getEmail().toLowerCase(Locale.ROOT));
+            }
+            takenNames.add(existing.getName());
+            if (existing.getTgId() != null) {
+                takenTgIds.add(existing.getTgId());
+            }
+        }
+
+        List<Candidate> remaining = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates) {
+            String message = null;
+            if (takenEmails.contains(c.email())) {
+                message = "User with email '" + c.data().getEmail() + "' already exists";
+            } else if (takenNames.contains(c.data().getName())) {
+                message = "User with name '" + c.data().getName() + "' already exists";
+            } else if (c.tgId() != null && takenTgIds.contains(c.tgId())) {
+                message = "User with Telegram ID '" + c.tgId() + "' already exists";
+            }
+            if (message != null) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(c.row(), c.data().getEmail(), message));
+            } else {
+                remaining.add(c);
+            }
+        }
+        return remaining;
+    }
+
+    private List<Candidate> rejectInvalidMethodists(List<Candidate> candidates, BulkUserProvisionResponse result) {
+        Set<Integer> methodistIds = candidates.stream()
+                .map(c -> c.data().getMethodistId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (methodistIds.isEmpty()) {
+            return candidates;
+        }
+
+        Set<Integer> valid = userRepository.findAllById(methodistIds).stream()
+                .filter(u -> !u.isDeleted())
+                .filter(u -> u.getRole() != null && u.getRole().getRolename() == RoleName.METHODIST)
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        List<Candidate> remaining = new ArrayList<>(candidates.size());
+        for (Candidate c : candidates) {
+            Integer methodistId = c.data().getMethodistId();
+            if (methodistId != null && !valid.contains(methodistId)) {
+                result.getErrors().add(new BulkUserProvisionResponse.RowError(c.row(), c.data().getEmail(),
+                        "Methodist with id " + methodistId + " not found"));
+            } else {
+                remaining.add(c);
+            }
+        }
+        return remaining;
+    }
+
+    private static void trim(BulkUserProvisionRequest.UserRow row) {
+        row.setName(row.getName() == null ? null : row.getName().trim());
+        row.setEmail(row.getEmail() == null ? null : row.getEmail().trim());
+        if (row.getPassword() != null && row.getPassword().isBlank()) {
+            row.setPassword(null);
+        }
+        if (row.getTgId() != null) {
+            String tgId = row.getTgId().trim();
+            row.setTgId(tgId.isEmpty() ? null : tgId);
+        }
+    }
+
+    
+    private static Set<String> nonEmpty(Set<String> values) {
+        return values.isEmpty() ? Set.of("") : values;
+    }
+}
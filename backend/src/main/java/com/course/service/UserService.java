@@ -1,6 +1,9 @@
 package com.course.service;
 
+import com.course.config.ProvisioningProperties;
 import com.course.dto.auth.UserRegisterRequest;
+import com.course.dto.common.CountMode;
+import com.course.dto.common.CursorPageResponse;
 import com.course.dto.common.PageResponse;
 import com.course.dto.user.ProfileUpdateRequest;
 import com.course.dto.user.UserResponse;
@@ -14,8 +17,12 @@ import com.course.exception.ResourceNotFoundException;
 import com.course.exception.TeacherDeletionConflictException;
 import com.course.repository.RoleRepository;
 import com.course.repository.StudyClassRepository;
+import com.course.repository.UserDirectoryQuery;
 import com.course.repository.UserRepository;
 import com.course.repository.MethodistTeacherRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,8 +34,18 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,11 +61,15 @@ public class UserService {
     private final MethodistTeacherService methodistTeacherService;
     private final MethodistTeacherRepository methodistTeacherRepository;
     private final StudyClassRepository studyClassRepository;
+    private final TeacherCourseAccessCache teacherCourseAccessCache;
+    private final ObjectMapper objectMapper;
+    private final ProvisioningProperties provisioningProperties;
 
     private static final RoleName ROLE_ADMIN = RoleName.ADMIN;
     private static final RoleName ROLE_METHODIST = RoleName.METHODIST;
     private static final RoleName ROLE_TEACHER = RoleName.TEACHER;
     private static final RoleName ROLE_STUDENT = RoleName.STUDENT;
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 200;
 
 
     public UserResponse updateOwnProfile(@NotNull User currentUser, @Valid @NotNull ProfileUpdateRequest dto) {
@@ -255,6 +276,7 @@ public class UserService {
         }
         teacher.setDeleted(true);
         userRepository.save(teacher);
+        teacherCourseAccessCache.evict(teacherUserId);
     }
 
     public void restoreTeacherByMethodist(Integer metodistUserId, Integer teacherUserId) {
@@ -397,6 +419,101 @@ public class UserService {
         return getUserById(userId);
     }
 
+    
+    public record BatchUser(String name, String email, String passwordHash, String tgId, RoleName role, Integer methodistId) {
+    }
+
+    
+    public List<User> createUsersBatch(List<BatchUser> users) {
+        if (users == null || users.isEmpty()) {
+            return List.of();
+        }
+
+        int batchSize = Math.max(1, provisioningProperties.getBatchSize());
+        Map<RoleName, List<BatchUser>> byRole = users.stream()
+                .collect(Collectors.groupingBy(BatchUser::role, LinkedHashMap::new, Collectors.toList()));
+        List<Integer> ids = new ArrayList<>(users.size());
+        for (Map.Entry<RoleName, List<BatchUser>> entry : byRole.entrySet()) {
+            List<BatchUser> group = entry.getValue();
+            for (int from = 0; from < group.size(); from += batchSize) {
+                ArrayNode rows = objectMapper.createArrayNode();
+                for (BatchUser u : group.subList(from, Math.min(from + batchSize, group.size()))) {
+                    rows.addObject()
+                            .put("name", u.name())
+                            .put("email", u.email())
+                            .put("password", u.passwordHash())
+                            .put("tg_id", u.tgId() != null && !u.tgId().isBlank() ? u.tgId() : null);
+                }
+                String json;
+                try {
+                    json = objectMapper.writeValueAsString(rows);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize users batch", e);
+                }
+                ids.addAll(userRepository.registerUsersBatch(json, entry.getKey().name()));
+            }
+        }
+
+        List<User> created = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            created.addAll(userRepository.findAllWithRoleByIdIn(ids.subList(from, Math.min(from + batchSize, ids.size()))));
+        }
+
+        Map<String, Integer> methodistByEmail = new HashMap<>();
+        for (BatchUser u : users) {
+            if (u.methodistId() != null && u.role() == ROLE_TEACHER) {
+                methodistByEmail.put(u.email().toLowerCase(Locale.ROOT), u.methodistId());
+            }
+        }
+        if (!methodistByEmail.isEmpty()) {
+            ArrayNode links = objectMapper.createArrayNode();
+            for (User teacher : created) {
+                Integer methodistId = methodistByEmail.get(teacher.getEmail().toLowerCase(Locale.ROOT));
+                if (methodistId != null) {
+                    links.addObject()
+                            .put("methodist_id", methodistId)
+                            .put("teacher_id", teacher.getId());
+                }
+            }
+            try {
+                methodistTeacherRepository.linkTeachersBatch(objectMapper.writeValueAsString(links));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize methodist links", e);
+            }
+        }
+        return created;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, User> findUsersByEmails(Collection<String> emails) {
+        Map<String, User> result = new HashMap<>();
+        if (emails == null || emails.isEmpty()) {
+            return result;
+        }
+        List<String> normalized = emails.stream()
+                .filter(e -> e != null && !e.isBlank())
+                .map(e -> e.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+        if (normalized.isEmpty()) {
+            return result;
+        }
+        for (User u : userRepository.findAllByEmailLowerIn(normalized)) {
+            result.put(u.getEmail().toLowerCase(Locale.ROOT), u);
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findExistingNames(Collection<String> names) {
+        return names == null || names.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingNames(names));
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findExistingTgIds(Collection<String> tgIds) {
+        return tgIds == null || tgIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingTgIds(tgIds));
+    }
+
     @Transactional(readOnly = true)
     public UserResponse getUserById(Integer id) {
         User user = userRepository.findById(id)
@@ -432,6 +549,59 @@ public class UserService {
     }
 
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<UserResponse> getDirectory(RoleName role, Boolean deleted, String prefix,
+                                                         String cursor, int size, CountMode countMode) {
+        int limit = Math.max(1, Math.min(size, MAX_DIRECTORY_PAGE_SIZE));
+        String afterName = null;
+        Integer afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String decoded;
+            try {
+                decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            int sep = decoded.indexOf(':');
+            if (sep <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            try {
+                afterId = Integer.valueOf(decoded.substring(0, sep));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            afterName = decoded.substring(sep + 1);
+        }
+
+        UserDirectoryQuery query = new UserDirectoryQuery(role, deleted, prefix, afterName, afterId);
+        List<User> rows = userRepository.findDirectoryPage(query, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+
+        CursorPageResponse<UserResponse> result = new CursorPageResponse<>();
+        result.setContent(rows.stream().map(this::convertToDto).collect(Collectors.toList()));
+        result.setSize(limit);
+        result.setHasNext(hasNext);
+        if (hasNext) {
+            User last = rows.get(rows.size() - 1);
+            String token = last.getId() + ":" + last.getName();
+            result.setNextCursor(Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        CountMode mode = countMode == null ? CountMode.NONE : countMode;
+        UserDirectoryQuery countQuery = new UserDirectoryQuery(role, deleted, prefix, null, null);
+        if (mode == CountMode.EXACT) {
+            result.setTotalElements(userRepository.countDirectory(countQuery));
+        } else if (mode == CountMode.ESTIMATED) {
+            result.setTotalElements(userRepository.estimateDirectory(countQuery));
+            result.setTotalEstimated(true);
+        }
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public List<UserResponse> getAllMethodists() {
         return userRepository.findAllByRole_RolenameAndDeletedFalseOrderByNameAsc(ROLE_METHODIST).stream()
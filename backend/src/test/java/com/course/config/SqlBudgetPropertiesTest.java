@@ -0,0 +1,50 @@
+package com.course.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlBudgetPropertiesTest {
+
+    @Test
+    void endpointBudgetsBindFromApplicationYaml() throws IOException {
+        SqlBudgetProperties props = bind("application.yml");
+
+        assertThat(props.getDefaultBudget()).isEqualTo(50);
+        assertThat(props.budgetFor("GET /api/me/courses/{courseId}/page")).isEqualTo(30);
+        assertThat(props.budgetFor("GET /api/me/achievements/page")).isEqualTo(20);
+        assertThat(props.budgetFor("POST /api/achievements/{achievementId}/award/{studentId}")).isEqualTo(20);
+        assertThat(props.isFailOnExceed()).isFalse();
+    }
+
+    @Test
+    void testProfileFailsOnExceededBudget() throws IOException {
+        SqlBudgetProperties props = bind("application-test.yml", "application.yml");
+
+        assertThat(props.isEnabled()).isTrue();
+        assertThat(props.isFailOnExceed()).isTrue();
+        assertThat(props.isDebugHeader()).isTrue();
+        assertThat(props.budgetFor("GET /api/me/courses/{courseId}/page")).isEqualTo(30);
+    }
+
+    private static SqlBudgetProperties bind(String... resources) throws IOException {
+        MutablePropertySources sources = new MutablePropertySources();
+        YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
+        for (String resource : resources) {
+            for (PropertySource<?> source : loader.load(resource, new ClassPathResource(resource))) {
+                sources.addLast(source);
+            }
+        }
+        Binder binder = new Binder(ConfigurationPropertySources.from(sources), new PropertySourcesPlaceholdersResolver(sources));
+        return binder.bind("app.sql-budget", SqlBudgetProperties.class).orElseGet(SqlBudgetProperties::new);
+    }
+}
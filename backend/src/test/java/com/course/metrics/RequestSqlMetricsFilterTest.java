@@ -0,0 +1,91 @@
+package com.course.metrics;
+
+import com.course.config.SqlBudgetProperties;
+import com.course.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestSqlMetricsFilterTest {
+
+    private static final String COURSE_PAGE = "/api/me/courses/{courseId}/page";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void underBudgetWritesBodyAndDebugHeaders() throws Exception {
+        SqlBudgetProperties props = props(5, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestSqlMetricsFilter(registry, props).doFilter(coursePageRequest(), response, chain(3));
+
+        assertThat(response.getContentAsString()).isEqualTo("body");
+        assertThat(response.getHeader(RequestSqlMetricsFilter.STATEMENTS_HEADER)).isEqualTo("3");
+        assertThat(response.getHeader(RequestSqlMetricsFilter.TIME_HEADER)).isNotNull();
+    }
+
+    @Test
+    void overBudgetFailsBeforeResponseIsCommitted() {
+        SqlBudgetProperties props = props(2, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> new RequestSqlMetricsFilter(registry, props).doFilter(coursePageRequest(), response, chain(3)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("GET " + COURSE_PAGE)
+                .hasMessageContaining("issued 3 SQL statements (budget 2");
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void overBudgetOnlyLogsWhenNotFailing() throws Exception {
+        SqlBudgetProperties props = props(2, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new RequestSqlMetricsFilter(registry, props).doFilter(coursePageRequest(), response, chain(3));
+
+        assertThat(response.getContentAsString()).isEqualTo("body");
+        assertThat(registry.get("app.http.sql.budget.exceeded").tag("endpoint", "GET " + COURSE_PAGE).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void endpointBudgetOverridesDefault() {
+        SqlBudgetProperties props = props(50, true);
+        props.getEndpoints().put("GET " + COURSE_PAGE, 1);
+
+        assertThatThrownBy(() -> new RequestSqlMetricsFilter(registry, props)
+                .doFilter(coursePageRequest(), new MockHttpServletResponse(), chain(2)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("budget 1");
+    }
+
+    private static SqlBudgetProperties props(int defaultBudget, boolean failOnExceed) {
+        SqlBudgetProperties props = new SqlBudgetProperties();
+        props.setDefaultBudget(defaultBudget);
+        props.setFailOnExceed(failOnExceed);
+        props.setDebugHeader(true);
+        return props;
+    }
+
+    private static MockHttpServletRequest coursePageRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/me/courses/7/page");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, COURSE_PAGE);
+        return request;
+    }
+
+    private static FilterChain chain(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                SqlStatementCounter.record("select * from lessons where id = ?", 1_000);
+            }
+            response.getWriter().write("body");
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.course.metrics;
+
+import com.course.config.SqlBudgetProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class SqlBudgetEndpointsTest {
+
+    private static final String COURSE_PAGE = "GET /api/me/courses/{courseId}/page";
+    private static final String ACHIEVEMENTS_PAGE = "GET /api/me/achievements/page";
+    private static final String AWARD = "POST /api/achievements/{achievementId}/award/{studentId}";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withCopyFileToContainer(MountableFile.forHostPath("../db/init"), "/docker-entrypoint-initdb.d/");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetProperties budgets;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void coursePageStaysWithinBudget() throws Exception {
+        Integer courseId = idOf("SELECT id FROM courses WHERE name = ?", "Основы программирования");
+
+        MvcResult result = perform(get("/api/me/courses/{courseId}/page", courseId), "student_ivan");
+
+        assertWithinBudget(result, COURSE_PAGE);
+    }
+
+    @Test
+    void myAchievementsPageStaysWithinBudget() throws Exception {
+        MvcResult result = perform(get("/api/me/achievements/page"), "student_maria");
+
+        assertWithinBudget(result, ACHIEVEMENTS_PAGE);
+    }
+
+    @Test
+    void awardStaysWithinBudget() throws Exception {
+        Integer achievementId = idOf("SELECT id FROM achievements WHERE title = ?", "Первый тест");
+        Integer studentId = idOf("SELECT id FROM users WHERE name = ?", "student_ivan");
+
+        MvcResult result = perform(post("/api/achievements/{achievementId}/award/{studentId}", achievementId, studentId),
+                "teacher_alex");
+
+        assertWithinBudget(result, AWARD);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request, String username) throws Exception {
+        return mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, "Bearer " + login(username)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private void assertWithinBudget(MvcResult result, String endpoint) {
+        String statements = result.getResponse().getHeader(RequestSqlMetricsFilter.STATEMENTS_HEADER);
+        assertThat(statements).isNotNull();
+        assertThat(Integer.parseInt(statements)).isLessThanOrEqualTo(budgets.budgetFor(endpoint));
+    }
+
+    private String login(String username) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("username", username, "password", "pass"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    private Integer idOf(String sql, String name) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, name);
+    }
+}
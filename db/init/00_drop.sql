@@ -5,6 +5,7 @@
 DROP TABLE IF EXISTS
   class_opened_tests,
   methodist_teachers,
+  open_answer_signatures,
   test_attempt_answers,
   test_attempts,
   test_questions,
@@ -16,6 +17,7 @@ DROP TABLE IF EXISTS
   class_students,
   class_join_requests,
   class_opened_lessons,
+  lesson_slide_texts,
   classes,
   lessons,
   courses,
@@ -155,9 +155,12 @@ CREATE TABLE IF NOT EXISTS test_questions (
     option_4            VARCHAR(512),
     correct_option      INT,
     correct_text_answer VARCHAR(512),
+    accepted_text_answers VARCHAR(4096),
+    text_match_mode     VARCHAR(16) NOT NULL DEFAULT 'EXACT',
+    text_max_typos      INT,
     created_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT uq_test_question_order UNIQUE (test_id, order_index)
+    CONSTRAINT uq_test_question_order UNIQUE (test_id, order_index) DEFERRABLE INITIALLY IMMEDIATE
     );
 
 CREATE TABLE IF NOT EXISTS test_attempts (
@@ -190,6 +193,13 @@ CREATE TABLE IF NOT EXISTS test_attempt_answers (
     CONSTRAINT uq_attempt_question UNIQUE (attempt_id, question_id)
     );
 
+CREATE TABLE IF NOT EXISTS open_answer_signatures (
+                                                      answer_id   INT PRIMARY KEY REFERENCES test_attempt_answers(id) ON DELETE CASCADE,
+                                                      question_id INT NOT NULL REFERENCES test_questions(id) ON DELETE CASCADE,
+    signature   BYTEA NOT NULL,
+    computed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+    );
+
 CREATE TABLE IF NOT EXISTS student_remedial_assignments (
                                                             id                 SERIAL PRIMARY KEY,
                                                             student_id          INT NOT NULL REFERENCES users(id),
@@ -238,6 +248,49 @@ CREATE TABLE IF NOT EXISTS class_opened_tests (
     );
 
 
+CREATE TABLE IF NOT EXISTS lesson_slide_texts (
+                                                  id               SERIAL PRIMARY KEY,
+                                                  lesson_id        INT NOT NULL REFERENCES lessons(id) ON DELETE CASCADE,
+    page_number      INT NOT NULL,
+    content          TEXT NOT NULL DEFAULT '',
+    presentation_url VARCHAR(512) NOT NULL,
+    extracted_at     TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    search_vector    tsvector GENERATED ALWAYS AS (to_tsvector('russian'::regconfig, content)) STORED,
+    CONSTRAINT uq_lesson_slide_page UNIQUE (lesson_id, page_number)
+    );
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('russian'::regconfig, coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('russian'::regconfig, coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE lessons ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('russian'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('russian'::regconfig, coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE tests ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('russian'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('russian'::regconfig, coalesce(topic, '')), 'B') ||
+        setweight(to_tsvector('russian'::regconfig, coalesce(description, '')), 'C')
+    ) STORED;
+
+ALTER TABLE test_questions ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('russian'::regconfig, coalesce(question_text, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_courses_search ON courses USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_lessons_search ON lessons USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_tests_search ON tests USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_test_questions_search ON test_questions USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_lesson_slide_texts_search ON lesson_slide_texts USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_classes_teacher_course ON classes(teacher_id, course_id);
+
 CREATE INDEX IF NOT EXISTS idx_class_opened_lessons_class ON class_opened_lessons(class_id);
 CREATE INDEX IF NOT EXISTS idx_class_opened_lessons_lesson ON class_opened_lessons(lesson_id);
 
@@ -247,15 +300,21 @@ CREATE INDEX IF NOT EXISTS idx_class_opened_tests_test ON class_opened_tests(tes
 CREATE INDEX IF NOT EXISTS idx_test_attempt_test ON test_attempts(test_id);
 CREATE INDEX IF NOT EXISTS idx_test_attempt_student ON test_attempts(student_id);
 CREATE INDEX IF NOT EXISTS idx_test_attempt_status ON test_attempts(status);
+CREATE INDEX IF NOT EXISTS idx_test_attempt_in_progress_started ON test_attempts(started_at, id) WHERE status = 'IN_PROGRESS';
 
 CREATE INDEX IF NOT EXISTS idx_attempt_answer_attempt ON test_attempt_answers(attempt_id);
 CREATE INDEX IF NOT EXISTS idx_attempt_answer_question ON test_attempt_answers(question_id);
+CREATE INDEX IF NOT EXISTS idx_open_answer_signatures_question ON open_answer_signatures(question_id);
 
 CREATE INDEX IF NOT EXISTS idx_sra_student ON student_remedial_assignments(student_id);
 CREATE INDEX IF NOT EXISTS idx_sra_course ON student_remedial_assignments(course_id);
 CREATE INDEX IF NOT EXISTS idx_sra_topic ON student_remedial_assignments(topic);
 CREATE INDEX IF NOT EXISTS idx_sra_student_course_week ON student_remedial_assignments(student_id, course_id, assigned_week_start);
 
+CREATE INDEX IF NOT EXISTS idx_users_directory_name ON users((lower(name) COLLATE "C"), id);
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users(lower(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_role ON users(role_id);
+
 
 CREATE OR REPLACE FUNCTION register_user(
     p_name      VARCHAR(63),
@@ -3,6 +3,10 @@ RETURNS TRIGGER AS $$
 DECLARE
     v_attempt_id INT;
 BEGIN
+    IF current_setting('app.skip_attempt_recalc', true) = 'on' THEN
+        RETURN COALESCE(NEW, OLD);
+    END IF;
+
     v_attempt_id := COALESCE(NEW.attempt_id, OLD.attempt_id);
 
     UPDATE test_attempts ta
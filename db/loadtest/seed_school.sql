@@ -0,0 +1,254 @@
+-- Синтетическая "школа" для нагрузочного тестирования.
+-- Запуск (локальный Postgres со схемой из db/init):
+--   psql -h localhost -U postgres -d course_db -v methodists=5 -f db/loadtest/seed_school.sql
+-- Все сгенерированные сущности имеют префикс lt_ / "LT ", пароль пользователей: pass
+-- Повторный запуск сначала удаляет ранее сгенерированные данные.
+
+\set ON_ERROR_STOP on
+
+\if :{?methodists} \else \set methodists 5 \endif
+\if :{?teachers_per_methodist} \else \set teachers_per_methodist 4 \endif
+\if :{?courses_per_methodist} \else \set courses_per_methodist 2 \endif
+\if :{?classes_per_teacher} \else \set classes_per_teacher 3 \endif
+\if :{?students_per_class} \else \set students_per_class 25 \endif
+\if :{?lessons_per_course} \else \set lessons_per_course 8 \endif
+\if :{?tests_per_lesson} \else \set tests_per_lesson 2 \endif
+\if :{?questions_per_test} \else \set questions_per_test 6 \endif
+\if :{?attempt_ratio} \else \set attempt_ratio 0.6 \endif
+\if :{?seed} \else \set seed 0.42 \endif
+
+BEGIN;
+
+SELECT setseed(:seed);
+
+-- Очистка предыдущего прогона
+DELETE FROM notifications WHERE user_id IN (SELECT id FROM users WHERE name LIKE 'lt\_%');
+DELETE FROM test_attempt_answers WHERE attempt_id IN (
+    SELECT ta.id FROM test_attempts ta JOIN users u ON u.id = ta.student_id WHERE u.name LIKE 'lt\_%');
+DELETE FROM test_attempts WHERE student_id IN (SELECT id FROM users WHERE name LIKE 'lt\_%');
+DELETE FROM student_remedial_assignments WHERE student_id IN (SELECT id FROM users WHERE name LIKE 'lt\_%');
+DELETE FROM class_opened_tests WHERE class_id IN (SELECT id FROM classes WHERE name LIKE 'LT %');
+DELETE FROM class_opened_lessons WHERE class_id IN (SELECT id FROM classes WHERE name LIKE 'LT %');
+DELETE FROM class_students WHERE class_id IN (SELECT id FROM classes WHERE name LIKE 'LT %');
+DELETE FROM classes WHERE name LIKE 'LT %';
+DELETE FROM test_questions WHERE test_id IN (SELECT t.id FROM tests t JOIN courses c ON c.id = t.course_id WHERE c.name LIKE 'LT %');
+DELETE FROM tests WHERE course_id IN (SELECT id FROM courses WHERE name LIKE 'LT %');
+DELETE FROM lessons WHERE course_id IN (SELECT id FROM courses WHERE name LIKE 'LT %');
+DELETE FROM courses WHERE name LIKE 'LT %';
+DELETE FROM methodist_teachers WHERE methodist_id IN (SELECT id FROM users WHERE name LIKE 'lt\_%');
+DELETE FROM users WHERE name LIKE 'lt\_%';
+
+-- Методисты
+INSERT INTO users(role_id, name, email, password)
+SELECT r.id, 'lt_m' || m, 'lt_m' || m || '@load.local',
+       '$2b$10$bKmYqnW7WQ6Oo94kiRCeC.XRoVt5CQ2p15VANIsYmna/AKRo17.EO'
+FROM role r, generate_series(1, :methodists) m
+WHERE r.rolename = 'METHODIST';
+
+-- Учителя
+INSERT INTO users(role_id, name, email, password)
+SELECT r.id, 'lt_t' || m || '_' || t, 'lt_t' || m || '_' || t || '@load.local',
+       '$2b$10$bKmYqnW7WQ6Oo94kiRCeC.XRoVt5CQ2p15VANIsYmna/AKRo17.EO'
+FROM role r, generate_series(1, :methodists) m, generate_series(1, :teachers_per_methodist) t
+WHERE r.rolename = 'TEACHER';
+
+INSERT INTO methodist_teachers(methodist_id, teacher_id)
+SELECT mu.id, tu.id
+FROM users mu
+JOIN users tu ON tu.name LIKE ('lt\_t' || substr(mu.name, 5) || '\_%')
+WHERE mu.name LIKE 'lt\_m%';
+
+-- Курсы
+INSERT INTO courses(name, description, created_by)
+SELECT 'LT Course ' || m || '-' || c, 'Синтетический курс', mu.id
+FROM generate_series(1, :methodists) m
+CROSS JOIN generate_series(1, :courses_per_methodist) c
+JOIN users mu ON mu.name = 'lt_m' || m;
+
+-- Классы: каждый учитель ведёт classes_per_teacher классов по курсам своего методиста
+INSERT INTO classes(name, course_id, join_code, teacher_id, created_by)
+SELECT 'LT ' || m || '-' || t || '-' || k,
+       co.id,
+       upper(substr(md5('lt-class-' || m || '-' || t || '-' || k), 1, 8)),
+       tu.id,
+       mu.id
+FROM generate_series(1, :methodists) m
+CROSS JOIN generate_series(1, :teachers_per_methodist) t
+CROSS JOIN generate_series(1, :classes_per_teacher) k
+JOIN users mu ON mu.name = 'lt_m' || m
+JOIN users tu ON tu.name = 'lt_t' || m || '_' || t
+JOIN courses co ON co.name = 'LT Course ' || m || '-' || (((t + k) % :courses_per_methodist) + 1);
+
+-- Ученики: по students_per_class в каждом классе
+INSERT INTO users(role_id, name, email, password)
+SELECT r.id, 'lt_s' || cl.id || '_' || s, 'lt_s' || cl.id || '_' || s || '@load.local',
+       '$2b$10$bKmYqnW7WQ6Oo94kiRCeC.XRoVt5CQ2p15VANIsYmna/AKRo17.EO'
+FROM role r
+CROSS JOIN classes cl
+CROSS JOIN generate_series(1, :students_per_class) s
+WHERE r.rolename = 'STUDENT' AND cl.name LIKE 'LT %';
+
+INSERT INTO class_students(class_id, student_id)
+SELECT cl.id, u.id
+FROM classes cl
+JOIN users u ON u.name LIKE ('lt\_s' || cl.id || '\_%')
+WHERE cl.name LIKE 'LT %';
+
+-- Уроки
+INSERT INTO lessons(title, description, order_index, course_id, created_by)
+SELECT 'Урок ' || l, 'Синтетический урок ' || l, l, co.id, co.created_by
+FROM courses co
+CROSS JOIN generate_series(1, :lessons_per_course) l
+WHERE co.name LIKE 'LT %';
+
+-- Тесты: чередуем домашние и контрольные работы
+INSERT INTO tests(lesson_id, course_id, activity_type, weight_multiplier, time_limit_seconds, created_by,
+                  title, description, topic, deadline, status, published_at)
+SELECT le.id,
+       le.course_id,
+       CASE WHEN k % 2 = 0 THEN 'CONTROL_WORK' ELSE 'HOMEWORK_TEST' END,
+       CASE WHEN k % 2 = 0 THEN 2 ELSE 1 END,
+       CASE WHEN k % 2 = 0 THEN 1800 ELSE NULL END,
+       le.created_by,
+       'Тест ' || le.order_index || '.' || k,
+       'Синтетический тест',
+       'Тема ' || ((le.order_index % 4) + 1),
+       now() + interval '30 days',
+       'READY',
+       now() - interval '7 days'
+FROM lessons le
+JOIN courses co ON co.id = le.course_id
+CROSS JOIN generate_series(1, :tests_per_lesson) k
+WHERE co.name LIKE 'LT %';
+
+-- Вопросы: SINGLE_CHOICE / TEXT / OPEN по кругу
+INSERT INTO test_questions(test_id, order_index, question_text, question_type, points,
+                           option_1, option_2, option_3, option_4, correct_option, correct_text_answer)
+SELECT t.id,
+       q,
+       'Вопрос ' || q || ' теста ' || t.id,
+       CASE q % 3 WHEN 1 THEN 'SINGLE_CHOICE' WHEN 2 THEN 'TEXT' ELSE 'OPEN' END,
+       1 + (q % 3),
+       CASE WHEN q % 3 = 1 THEN 'Вариант A' END,
+       CASE WHEN q % 3 = 1 THEN 'Вариант B' END,
+       CASE WHEN q % 3 = 1 THEN 'Вариант C' END,
+       CASE WHEN q % 3 = 1 THEN 'Вариант D' END,
+       CASE WHEN q % 3 = 1 THEN 1 + (t.id + q) % 4 END,
+       CASE WHEN q % 3 = 2 THEN 'ответ ' || q END
+FROM tests t
+JOIN courses co ON co.id = t.course_id
+CROSS JOIN generate_series(1, :questions_per_test) q
+WHERE co.name LIKE 'LT %';
+
+-- Все уроки и тесты курса открыты для всех классов курса
+INSERT INTO class_opened_lessons(class_id, lesson_id)
+SELECT cl.id, le.id
+FROM classes cl
+JOIN lessons le ON le.course_id = cl.course_id
+WHERE cl.name LIKE 'LT %';
+
+INSERT INTO class_opened_tests(class_id, test_id)
+SELECT cl.id, t.id
+FROM classes cl
+JOIN tests t ON t.course_id = cl.course_id
+WHERE cl.name LIKE 'LT %';
+
+-- История попыток: 60% GRADED, 30% SUBMITTED, 10% IN_PROGRESS.
+-- Незавершённые попытки начаты не раньше 20 минут назад, чтобы контрольные (лимит 30 минут)
+-- оставались живыми и не закрывались фоновым истечением попыток на первом же тике.
+CREATE TEMP TABLE lt_attempt_plan ON COMMIT DROP AS
+SELECT r.student_id,
+       r.test_id,
+       r.roll,
+       CASE WHEN r.roll < 0.9
+            THEN now() - (random() * interval '6 days') - interval '1 hour'
+            ELSE now() - (random() * interval '20 minutes')
+       END AS started_at
+FROM (
+    SELECT cs.student_id, t.id AS test_id, random() AS roll
+    FROM class_students cs
+    JOIN classes cl ON cl.id = cs.class_id
+    JOIN tests t ON t.course_id = cl.course_id
+    WHERE cl.name LIKE 'LT %'
+      AND random() < :attempt_ratio
+) r;
+
+INSERT INTO test_attempts(test_id, student_id, attempt_number, status, started_at, submitted_at)
+SELECT p.test_id,
+       p.student_id,
+       1,
+       CASE WHEN p.roll < 0.6 THEN 'GRADED' WHEN p.roll < 0.9 THEN 'SUBMITTED' ELSE 'IN_PROGRESS' END,
+       p.started_at,
+       CASE WHEN p.roll < 0.9 THEN p.started_at + interval '20 minutes' END
+FROM lt_attempt_plan p;
+
+INSERT INTO test_attempt_answers(attempt_id, question_id, selected_option, text_answer,
+                                 is_correct, points_awarded, feedback, graded_at)
+SELECT x.attempt_id,
+       x.question_id,
+       x.selected_option,
+       x.text_answer,
+       x.is_correct,
+       CASE
+           WHEN x.question_type = 'OPEN' AND x.status = 'GRADED' THEN floor(random() * (x.points + 1))::int
+           WHEN x.is_correct THEN x.points
+           ELSE 0
+       END,
+       CASE WHEN x.question_type = 'OPEN' AND x.status = 'GRADED' THEN 'Проверено' END,
+       CASE WHEN x.question_type = 'OPEN' AND x.status = 'GRADED' THEN x.submitted_at + interval '1 day' END
+FROM (
+    SELECT ta.id AS attempt_id,
+           ta.status,
+           ta.submitted_at,
+           tq.id AS question_id,
+           tq.question_type,
+           tq.points,
+           s.selected_option,
+           s.text_answer,
+           CASE
+               WHEN tq.question_type = 'SINGLE_CHOICE' THEN s.selected_option = tq.correct_option
+               WHEN tq.question_type = 'TEXT' THEN s.text_answer = tq.correct_text_answer
+               ELSE FALSE
+           END AS is_correct
+    FROM test_attempts ta
+    JOIN users u ON u.id = ta.student_id
+    JOIN test_questions tq ON tq.test_id = ta.test_id
+    CROSS JOIN LATERAL (
+        SELECT CASE WHEN tq.question_type = 'SINGLE_CHOICE'
+                        THEN CASE WHEN random() < 0.7 THEN tq.correct_option ELSE 1 + floor(random() * 4)::int END
+               END AS selected_option,
+               CASE
+                   WHEN tq.question_type = 'TEXT'
+                       THEN CASE WHEN random() < 0.6 THEN tq.correct_text_answer ELSE 'не знаю' END
+                   WHEN tq.question_type = 'OPEN'
+                       THEN 'Развёрнутый ответ ученика ' || ta.student_id || ' на вопрос ' || tq.order_index
+               END AS text_answer
+    ) s
+    WHERE u.name LIKE 'lt\_s%'
+      AND ta.status <> 'IN_PROGRESS'
+) x;
+
+UPDATE test_attempts ta
+SET score = agg.score,
+    max_score = agg.max_score
+FROM (
+    SELECT ta2.id,
+           COALESCE((SELECT SUM(taa.points_awarded) FROM test_attempt_answers taa WHERE taa.attempt_id = ta2.id), 0) AS score,
+           (SELECT SUM(GREATEST(tq.points, 1)) FROM test_questions tq WHERE tq.test_id = ta2.test_id) AS max_score
+    FROM test_attempts ta2
+    JOIN users u ON u.id = ta2.student_id
+    WHERE u.name LIKE 'lt\_s%'
+      AND ta2.status <> 'IN_PROGRESS'
+) agg
+WHERE agg.id = ta.id;
+
+COMMIT;
+
+ANALYZE;
+
+SELECT (SELECT COUNT(*) FROM users WHERE name LIKE 'lt\_m%') AS methodists,
+       (SELECT COUNT(*) FROM users WHERE name LIKE 'lt\_t%') AS teachers,
+       (SELECT COUNT(*) FROM users WHERE name LIKE 'lt\_s%') AS students,
+       (SELECT COUNT(*) FROM classes WHERE name LIKE 'LT %') AS classes,
+       (SELECT COUNT(*) FROM tests t JOIN courses c ON c.id = t.course_id WHERE c.name LIKE 'LT %') AS tests,
+       (SELECT COUNT(*) FROM test_attempts ta JOIN users u ON u.id = ta.student_id WHERE u.name LIKE 'lt\_s%') AS attempts;